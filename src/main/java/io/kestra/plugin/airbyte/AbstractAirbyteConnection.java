@@ -1,28 +1,28 @@
 package io.kestra.plugin.airbyte;
 
-import java.io.IOException;
-import java.net.SocketTimeoutException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Locale;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.http.HttpRequest;
 import io.kestra.core.http.HttpResponse;
 import io.kestra.core.http.client.HttpClient;
 import io.kestra.core.http.client.HttpClientException;
-import io.kestra.core.http.client.HttpClientResponseException;
 import io.kestra.core.http.client.configurations.HttpConfiguration;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
-import io.kestra.core.models.tasks.retrys.Exponential;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.utils.RetryUtils;
 import io.kestra.plugin.airbyte.connections.SyncAlreadyRunningException;
+import io.kestra.plugin.airbyte.models.JobList;
+import io.kestra.plugin.airbyte.models.WorkspaceInfo;
+import io.kestra.plugin.airbyte.models.WorkspaceList;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -37,12 +37,26 @@ import lombok.experimental.SuperBuilder;
 public abstract class AbstractAirbyteConnection extends Task {
     @Schema(
         title = "Airbyte API URL",
-        description = "Base URL of the Airbyte instance to call. This value is rendered from the current run context"
+        description = "Base URL of the Airbyte instance to call. This value is rendered from the current run context. Required unless `urls` is set"
     )
-    @NotNull
     @PluginProperty(group = "main")
     private Property<String> url;
 
+    @Schema(
+        title = "Airbyte API URLs",
+        description = "Base URLs of several Airbyte instances, used instead of `url`. One of them is chosen with `routing` when the task starts, then every request of the task, retries and job polls included, goes to it"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> urls;
+
+    @Schema(
+        title = "Routing policy",
+        description = "How the instance is chosen among `urls`: `PINNED` always uses the same instance for a connection, `LEAST_QUEUED` the reachable instance with the fewest pending and running jobs across its workspaces, `FAILOVER` the first instance whose health check succeeds. Tasks without a connection route `PINNED` like `FAILOVER`. Defaults to `PINNED`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<RoutingPolicy> routing = Property.ofValue(RoutingPolicy.PINNED);
+
     @Schema(
         title = "Basic auth username",
         description = "Username for Airbyte basic authentication. If both basic auth and a bearer token are configured, basic auth is sent last and takes precedence"
@@ -87,155 +101,207 @@ public abstract class AbstractAirbyteConnection extends Task {
     @PluginProperty(group = "connection")
     private ApplicationCredentials applicationCredentials;
 
+    @Schema(
+        title = "Metadata cache TTL",
+        description = "How long connection and workspace metadata read from Airbyte is reused by the tasks of the same worker. Set to `PT0S` to disable the cache. Defaults to 5 minutes"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> metadataCacheTtl = Property.ofValue(Duration.ofMinutes(5));
+
+    @Schema(
+        title = "Metadata cache size",
+        description = "Maximum number of metadata entries kept in the cache shared by the tasks of the worker, least recently used entries are evicted first. As the cache is shared, its bound is the largest size requested by any task since the worker started. Defaults to 1000"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> metadataCacheSize = Property.ofValue(1_000);
+
+    // instance chosen for this run, see route()
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @JsonIgnore
+    private final transient AtomicReference<String> routedUrl = new AtomicReference<>();
+
     protected <REQ, RES> HttpResponse<RES> request(RunContext runContext, HttpRequest.HttpRequestBuilder requestBuilder, Class<RES> responseType)
         throws HttpClientException, IllegalVariableEvaluationException, SyncAlreadyRunningException {
 
-        requestBuilder.addHeader("Content-Type", "application/json");
+        return this.client().request(runContext, requestBuilder, responseType, this.baseUrl(runContext));
+    }
 
-        retrieveApplicationCredentialsToken(runContext);
+    /**
+     * Client sending the requests with the credentials of this task.
+     */
+    protected AirbyteClient client() {
+        return AirbyteClient.builder()
+            .username(this.username)
+            .password(this.password)
+            .token(this.token)
+            .applicationCredentials(this.applicationCredentials)
+            .options(this.options)
+            .build();
+    }
 
-        if (this.token != null) {
-            requestBuilder.addHeader("Authorization", "Bearer " + runContext.render(this.token).as(String.class).orElseThrow());
-        }
+    /**
+     * Base URL of the Airbyte instance of this run: {@code url}, or the instance chosen among {@code urls} by the first
+     * call to {@link #route(RunContext, String)}, routed without a connection if none was made yet.
+     */
+    protected String baseUrl(RunContext runContext) throws IllegalVariableEvaluationException {
+        return this.route(runContext, null);
+    }
 
-        if (this.username != null && this.password != null) {
-            var basicAuthValue = "Basic " + java.util.Base64.getEncoder().encodeToString(
-                (runContext.render(this.username).as(String.class).orElseThrow() + ":" +
-                    runContext.render(this.password).as(String.class).orElseThrow()).getBytes()
-            );
-            requestBuilder.addHeader("Authorization", basicAuthValue);
+    /**
+     * Choose the instance of this run among {@code urls} for the given connection, which may be {@code null}. Only the
+     * first call routes, the later ones return the same instance so the jobs are polled where they were created.
+     */
+    protected String route(RunContext runContext, String connectionId) throws IllegalVariableEvaluationException {
+        String routed = this.routedUrl.get();
+        if (routed != null) {
+            return routed;
         }
 
-        var request = requestBuilder.build();
-
-        try {
-            return this.<HttpResponse<RES>> buildRetry(runContext).runRetryIf(
-                this::isRetryableException,
-                () ->
-                {
-                    try (var client = new HttpClient(runContext, options)) {
-                        return client.request(request, responseType);
-                    } catch (HttpClientResponseException e) {
-                        if (this.isAlreadyRunningError(e)) {
-                            throw new AlreadyRunningWrapper();
-                        }
-                        throw e;
-                    }
-                }
-            );
-        } catch (AlreadyRunningWrapper e) {
-            throw new SyncAlreadyRunningException("A sync is already running");
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException("HTTP request failed", e);
+        List<String> urls = runContext.render(this.urls).asList(String.class);
+        if (urls.isEmpty()) {
+            routed = runContext.render(this.url).as(String.class)
+                .orElseThrow(() -> new IllegalArgumentException("One of `url` or `urls` is required"));
+        } else {
+            RoutingPolicy policy = runContext.render(this.routing).as(RoutingPolicy.class).orElseThrow();
+            routed = switch (policy) {
+                case PINNED -> connectionId == null ? this.firstHealthy(runContext, urls) : Rendezvous.rank(urls, connectionId).getFirst();
+                case LEAST_QUEUED -> this.leastQueued(runContext, urls);
+                case FAILOVER -> this.firstHealthy(runContext, urls);
+            };
+            runContext.logger().debug("Routed to Airbyte instance {} with policy {}", routed, policy);
         }
-    }
 
-    private static final class AlreadyRunningWrapper extends RuntimeException {
-        AlreadyRunningWrapper() {
-            super(null, null, true, false);
-        }
+        return this.routedUrl.compareAndSet(null, routed) ? routed : this.routedUrl.get();
     }
 
-    private boolean isRetryableException(Throwable t) {
-        if (t instanceof SyncAlreadyRunningException || t instanceof AlreadyRunningWrapper) {
-            return false;
-        }
-        if (t instanceof SocketTimeoutException) {
-            return true;
-        }
-        if (t instanceof HttpClientResponseException e) {
-            var code = e.getResponse().getStatus().getCode();
-            return code == 408 || code == 425 || code == 429 || (code >= 500 && code != 501);
-        }
-        if (t instanceof IOException) {
-            return !(t instanceof HttpClientResponseException) &&
-                (t.getCause() instanceof SocketTimeoutException || !(t instanceof HttpClientException));
-        }
-        // HttpClient wraps low-level exceptions (e.g. SocketTimeoutException) in RuntimeException
-        if (t.getCause() != null) {
-            return isRetryableException(t.getCause());
+    private String firstHealthy(RunContext runContext, List<String> urls) throws IllegalVariableEvaluationException {
+        for (String url : urls) {
+            HttpRequest request = this.client().authorize(runContext, HttpRequest.builder().uri(URI.create(url + "/api/v1/health")).method("GET"), url);
+
+            try (var client = new HttpClient(runContext, options)) {
+                Map<?, ?> health = client.request(request, Map.class).getBody();
+                if (health == null || !Boolean.FALSE.equals(health.get("available"))) {
+                    return url;
+                }
+            } catch (Exception e) {
+                runContext.logger().warn("Airbyte instance {} is unhealthy: {}", url, e.getMessage());
+            }
         }
-        return false;
-    }
 
-    private <T> RetryUtils.Instance<T, Exception> buildRetry(RunContext runContext) {
-        return RetryUtils.of(
-            Exponential.builder()
-                .delayFactor(2.0)
-                .interval(Duration.ofSeconds(1))
-                .maxInterval(Duration.ofSeconds(15))
-                .maxAttempts(-1)
-                .maxDuration(Duration.ofMinutes(5))
-                .build(),
-            runContext.logger()
-        );
+        throw new IllegalStateException("No healthy Airbyte instance among " + urls);
     }
 
-    private boolean isAlreadyRunningError(HttpClientResponseException exception) {
-        if (Objects.requireNonNull(exception.getResponse()).getStatus().getCode() == 409) {
-            return true;
-        }
+    /**
+     * The instance with the fewest pending and running jobs across all its workspaces, as listing the jobs requires
+     * the workspace IDs. Instances that are unreachable or do not return a job count are skipped.
+     */
+    private String leastQueued(RunContext runContext, List<String> urls) throws IllegalVariableEvaluationException {
+        String leastQueued = null;
+        long fewest = Long.MAX_VALUE;
 
-        var lowerCaseMessage = Objects.toString(exception.getMessage(), "").toLowerCase(Locale.ROOT);
-        if (lowerCaseMessage.contains("already running")) {
-            return true;
+        for (String url : urls) {
+            try (var client = new HttpClient(runContext, options)) {
+                // the workspaces rarely change, unlike the job count of the instance
+                WorkspaceList workspaceList = MetadataCache.shared().get(
+                    url,
+                    this.client().credentials(runContext),
+                    "workspaces",
+                    "all",
+                    runContext.render(this.metadataCacheTtl).as(Duration.class).orElseThrow(),
+                    runContext.render(this.metadataCacheSize).as(Integer.class).orElseThrow(),
+                    WorkspaceList.class,
+                    () -> client.request(this.probe(runContext, url, "/api/v1/workspaces/list", Map.of()), WorkspaceList.class).getBody()
+                );
+                List<String> workspaceIds = Optional.ofNullable(workspaceList == null ? null : workspaceList.getWorkspaces()).orElse(List.of())
+                    .stream()
+                    .map(WorkspaceInfo::getWorkspaceId)
+                    .toList();
+
+                Long queued = 0L;
+                if (!workspaceIds.isEmpty()) {
+                    JobList jobList = client.request(
+                        this.probe(runContext, url, "/api/v1/jobs/list_for_workspaces", Map.of(
+                            "workspaceIds", workspaceIds,
+                            "configTypes", List.of("sync", "reset_connection", "clear"),
+                            "statuses", List.of("pending", "running", "incomplete"),
+                            "pagination", Map.of("pageSize", 1, "rowOffset", 0)
+                        )),
+                        JobList.class
+                    ).getBody();
+                    queued = jobList == null ? null : jobList.getTotalJobCount();
+                }
+
+                if (queued == null) {
+                    runContext.logger().warn("Airbyte instance {} did not return its job count, skipped", url);
+                } else if (queued < fewest) {
+                    fewest = queued;
+                    leastQueued = url;
+                }
+            } catch (Exception e) {
+                runContext.logger().warn("Unable to count the jobs of Airbyte instance {}: {}", url, e.getMessage());
+            }
         }
 
-        var responseBody = exception.getResponse().getBody();
-        if (responseBody instanceof byte[] rawBody) {
-            return new String(rawBody, StandardCharsets.UTF_8).toLowerCase(Locale.ROOT).contains("already running");
+        if (leastQueued == null) {
+            throw new IllegalStateException("No Airbyte instance among " + urls + " returned its job count");
         }
 
-        return Objects.toString(responseBody, "").toLowerCase(Locale.ROOT).contains("already running");
+        return leastQueued;
     }
 
-    private void retrieveApplicationCredentialsToken(RunContext runContext) throws IllegalVariableEvaluationException {
-        if (applicationCredentials != null) {
-            final var clientId = runContext.render(this.applicationCredentials.getClientId()).as(String.class).orElseThrow();
-            final var clientSecret = runContext.render(this.applicationCredentials.getClientSecret()).as(String.class).orElseThrow();
-
-            var applicationTokenRequestBuilder = HttpRequest.builder()
-                .uri(URI.create(runContext.render(this.url).as(String.class).orElseThrow() + "/api/v1/applications/token"))
+    private HttpRequest probe(RunContext runContext, String url, String path, Object body) throws IllegalVariableEvaluationException {
+        return this.client().authorize(
+            runContext,
+            HttpRequest.builder()
+                .uri(URI.create(url + path))
                 .method("POST")
                 .body(
                     HttpRequest.JsonRequestBody.builder()
-                        .content(
-                            Map.of(
-                                "client_id", clientId,
-                                "client_secret", clientSecret,
-                                "grant-type", "client_credentials"
-                            )
-                        )
+                        .content(body)
                         .build()
-                );
-            applicationTokenRequestBuilder.addHeader("Accept", "application/json");
-            applicationTokenRequestBuilder.addHeader("Content-Type", "application/json");
-
-            var tokenRequest = applicationTokenRequestBuilder.build();
-
-            String applicationToken;
-            try {
-                applicationToken = this.<String> buildRetry(runContext).runRetryIf(
-                    this::isRetryableException,
-                    () ->
-                    {
-                        try (var client = new HttpClient(runContext, options)) {
-                            return (String) client.request(tokenRequest, Map.class).getBody().getOrDefault("access_token", null);
-                        }
-                    }
-                );
-            } catch (RuntimeException e) {
-                throw e;
-            } catch (Throwable e) {
-                throw new RuntimeException(e);
-            }
+                ),
+            url
+        );
+    }
 
-            if (applicationToken != null) {
-                this.token = Property.ofValue(applicationToken);
-            }
-        }
+    /**
+     * POST a JSON body to an API path relative to the {@link #baseUrl(RunContext) instance URL} and return the response body.
+     */
+    protected <RES> RES post(RunContext runContext, String path, Object body, Class<RES> responseType)
+        throws HttpClientException, IllegalVariableEvaluationException, SyncAlreadyRunningException {
+
+        return this.post(runContext, this.baseUrl(runContext), path, body, responseType);
+    }
+
+    /**
+     * Same as {@link #post(RunContext, String, Object, Class)} on the given instance, e.g. the one recorded with a job.
+     */
+    protected <RES> RES post(RunContext runContext, String baseUrl, String path, Object body, Class<RES> responseType)
+        throws HttpClientException, IllegalVariableEvaluationException, SyncAlreadyRunningException {
+
+        return this.client().post(runContext, baseUrl, path, body, responseType);
+    }
+
+    /**
+     * Same as {@link #post(RunContext, String, Object, Class)} but read through the shared {@link MetadataCache}, keyed
+     * by instance URL, credentials, {@code kind} and {@code id}. Only use it for metadata that can be stale for
+     * {@code metadataCacheTtl}.
+     */
+    protected <RES> RES cachedPost(RunContext runContext, String kind, String id, String path, Object body, Class<RES> responseType) throws Exception {
+        return MetadataCache.shared().get(
+            this.baseUrl(runContext),
+            this.client().credentials(runContext),
+            kind,
+            id,
+            runContext.render(this.metadataCacheTtl).as(Duration.class).orElseThrow(),
+            runContext.render(this.metadataCacheSize).as(Integer.class).orElseThrow(),
+            responseType,
+            () -> this.post(runContext, path, body, responseType)
+        );
     }
 
     @Builder
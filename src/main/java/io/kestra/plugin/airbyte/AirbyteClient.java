@@ -0,0 +1,240 @@
+package io.kestra.plugin.airbyte;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.HttpClientException;
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.retrys.Exponential;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.RetryUtils;
+import io.kestra.plugin.airbyte.connections.SyncAlreadyRunningException;
+
+import lombok.Builder;
+
+/**
+ * Authenticated and retried requests to the API of an Airbyte instance, shared by the tasks through
+ * {@link AbstractAirbyteConnection} and by the triggers, which cannot extend it.
+ */
+@Builder
+public class AirbyteClient {
+    private final Property<String> username;
+    private final Property<String> password;
+    private final Property<String> token;
+    private final AbstractAirbyteConnection.ApplicationCredentials applicationCredentials;
+    private final HttpConfiguration options;
+
+    /**
+     * Send a request to the given instance, retrying the throttled, timed out and server errors. A conflict is
+     * reported as a {@link SyncAlreadyRunningException}.
+     */
+    public <RES> HttpResponse<RES> request(RunContext runContext, HttpRequest.HttpRequestBuilder requestBuilder, Class<RES> responseType, String baseUrl)
+        throws HttpClientException, IllegalVariableEvaluationException, SyncAlreadyRunningException {
+
+        var request = this.authorize(runContext, requestBuilder, baseUrl);
+
+        try {
+            return this.<HttpResponse<RES>> buildRetry(runContext).runRetryIf(
+                this::isRetryableException,
+                () ->
+                {
+                    try (var client = new HttpClient(runContext, options)) {
+                        return client.request(request, responseType);
+                    } catch (HttpClientResponseException e) {
+                        if (this.isAlreadyRunningError(e)) {
+                            throw new AlreadyRunningWrapper();
+                        }
+                        throw e;
+                    }
+                }
+            );
+        } catch (AlreadyRunningWrapper e) {
+            throw new SyncAlreadyRunningException("A sync is already running");
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("HTTP request failed", e);
+        }
+    }
+
+    /**
+     * POST a JSON body to an API path of the given instance and return the response body.
+     */
+    public <RES> RES post(RunContext runContext, String baseUrl, String path, Object body, Class<RES> responseType)
+        throws HttpClientException, IllegalVariableEvaluationException, SyncAlreadyRunningException {
+
+        HttpRequest.HttpRequestBuilder requestBuilder = HttpRequest.builder()
+            .uri(URI.create(baseUrl + path))
+            .method("POST")
+            .body(
+                HttpRequest.JsonRequestBody.builder()
+                    .content(body)
+                    .build()
+            );
+
+        RES response = this.request(runContext, requestBuilder, responseType, baseUrl).getBody();
+        if (response == null) {
+            throw new IllegalStateException("Missing body on " + path);
+        }
+
+        return response;
+    }
+
+    /**
+     * Add the authentication headers to a request to the given instance, requesting an application access token
+     * first when application credentials are set.
+     */
+    public HttpRequest authorize(RunContext runContext, HttpRequest.HttpRequestBuilder requestBuilder, String baseUrl) throws IllegalVariableEvaluationException {
+        requestBuilder.addHeader("Content-Type", "application/json");
+
+        String applicationToken = this.applicationToken(runContext, baseUrl);
+        if (applicationToken != null) {
+            requestBuilder.addHeader("Authorization", "Bearer " + applicationToken);
+        } else if (this.token != null) {
+            requestBuilder.addHeader("Authorization", "Bearer " + runContext.render(this.token).as(String.class).orElseThrow());
+        }
+
+        if (this.username != null && this.password != null) {
+            var basicAuthValue = "Basic " + Base64.getEncoder().encodeToString(
+                (runContext.render(this.username).as(String.class).orElseThrow() + ":" +
+                    runContext.render(this.password).as(String.class).orElseThrow()).getBytes()
+            );
+            requestBuilder.addHeader("Authorization", basicAuthValue);
+        }
+
+        return requestBuilder.build();
+    }
+
+    /**
+     * Every credential sent by this client, hashed by {@link MetadataCache} before being used in its keys.
+     */
+    public String credentials(RunContext runContext) throws IllegalVariableEvaluationException {
+        return String.join("\n",
+            runContext.render(this.username).as(String.class).orElse(""),
+            runContext.render(this.password).as(String.class).orElse(""),
+            runContext.render(this.token).as(String.class).orElse(""),
+            this.applicationCredentials == null ? "" : runContext.render(this.applicationCredentials.getClientId()).as(String.class).orElse(""),
+            this.applicationCredentials == null ? "" : runContext.render(this.applicationCredentials.getClientSecret()).as(String.class).orElse("")
+        );
+    }
+
+    public HttpConfiguration options() {
+        return this.options;
+    }
+
+    private static final class AlreadyRunningWrapper extends RuntimeException {
+        AlreadyRunningWrapper() {
+            super(null, null, true, false);
+        }
+    }
+
+    private boolean isRetryableException(Throwable t) {
+        if (t instanceof SyncAlreadyRunningException || t instanceof AlreadyRunningWrapper) {
+            return false;
+        }
+        if (t instanceof SocketTimeoutException) {
+            return true;
+        }
+        if (t instanceof HttpClientResponseException e) {
+            var code = e.getResponse().getStatus().getCode();
+            return code == 408 || code == 425 || code == 429 || (code >= 500 && code != 501);
+        }
+        if (t instanceof IOException) {
+            return !(t instanceof HttpClientResponseException) &&
+                (t.getCause() instanceof SocketTimeoutException || !(t instanceof HttpClientException));
+        }
+        // HttpClient wraps low-level exceptions (e.g. SocketTimeoutException) in RuntimeException
+        if (t.getCause() != null) {
+            return isRetryableException(t.getCause());
+        }
+        return false;
+    }
+
+    private <T> RetryUtils.Instance<T, Exception> buildRetry(RunContext runContext) {
+        return RetryUtils.of(
+            Exponential.builder()
+                .delayFactor(2.0)
+                .interval(Duration.ofSeconds(1))
+                .maxInterval(Duration.ofSeconds(15))
+                .maxAttempts(-1)
+                .maxDuration(Duration.ofMinutes(5))
+                .build(),
+            runContext.logger()
+        );
+    }
+
+    private boolean isAlreadyRunningError(HttpClientResponseException exception) {
+        if (Objects.requireNonNull(exception.getResponse()).getStatus().getCode() == 409) {
+            return true;
+        }
+
+        var lowerCaseMessage = Objects.toString(exception.getMessage(), "").toLowerCase(Locale.ROOT);
+        if (lowerCaseMessage.contains("already running")) {
+            return true;
+        }
+
+        var responseBody = exception.getResponse().getBody();
+        if (responseBody instanceof byte[] rawBody) {
+            return new String(rawBody, StandardCharsets.UTF_8).toLowerCase(Locale.ROOT).contains("already running");
+        }
+
+        return Objects.toString(responseBody, "").toLowerCase(Locale.ROOT).contains("already running");
+    }
+
+    private String applicationToken(RunContext runContext, String baseUrl) throws IllegalVariableEvaluationException {
+        if (applicationCredentials == null) {
+            return null;
+        }
+
+        final var clientId = runContext.render(this.applicationCredentials.getClientId()).as(String.class).orElseThrow();
+        final var clientSecret = runContext.render(this.applicationCredentials.getClientSecret()).as(String.class).orElseThrow();
+
+        var applicationTokenRequestBuilder = HttpRequest.builder()
+            .uri(URI.create(baseUrl + "/api/v1/applications/token"))
+            .method("POST")
+            .body(
+                HttpRequest.JsonRequestBody.builder()
+                    .content(
+                        Map.of(
+                            "client_id", clientId,
+                            "client_secret", clientSecret,
+                            "grant-type", "client_credentials"
+                        )
+                    )
+                    .build()
+            );
+        applicationTokenRequestBuilder.addHeader("Accept", "application/json");
+        applicationTokenRequestBuilder.addHeader("Content-Type", "application/json");
+
+        var tokenRequest = applicationTokenRequestBuilder.build();
+
+        try {
+            return this.<String> buildRetry(runContext).runRetryIf(
+                this::isRetryableException,
+                () ->
+                {
+                    try (var client = new HttpClient(runContext, options)) {
+                        return (String) client.request(tokenRequest, Map.class).getBody().getOrDefault("access_token", null);
+                    }
+                }
+            );
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.kestra.plugin.airbyte;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Read-through cache of Airbyte metadata (connections, workspaces, ...) shared by every task running in the worker.
+ * <p>
+ * Entries are keyed by API base URL, a hash of the credentials, kind and ID, so a task is never served metadata read
+ * with credentials other than its own. They are evicted in least-recently-used order once the size bound is reached,
+ * and reloaded when older than the TTL given by the caller. Only immutable values must be cached.
+ */
+public final class MetadataCache {
+    private static final MetadataCache SHARED = new MetadataCache(1_000);
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int maxSize;
+
+    MetadataCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public static MetadataCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Return the cached value, or load and cache it when missing or older than {@code ttl}. A zero TTL or size
+     * bypasses the cache. Concurrent misses on the same key may each load the value.
+     */
+    public <T> T get(String baseUrl, String credentials, String kind, String id, Duration ttl, int maxSize, Class<T> type, Callable<T> loader) throws Exception {
+        if (ttl.isZero() || ttl.isNegative() || maxSize <= 0) {
+            return loader.call();
+        }
+
+        Key key = new Key(baseUrl, hash(credentials), kind, id);
+        long now = System.nanoTime();
+
+        synchronized (this) {
+            this.resize(maxSize);
+
+            Entry entry = entries.get(key);
+            if (entry != null && now - entry.loadedAt < ttl.toNanos() && type.isInstance(entry.value)) {
+                return type.cast(entry.value);
+            }
+        }
+
+        T value = loader.call();
+
+        synchronized (this) {
+            entries.put(key, new Entry(value, now));
+            this.evict();
+        }
+
+        return value;
+    }
+
+    public synchronized void invalidate(String baseUrl, String credentials, String kind, String id) {
+        entries.remove(new Key(baseUrl, hash(credentials), kind, id));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * The cache is shared, so a task asking for a smaller bound must not evict the entries of the others: the bound
+     * only grows, to the largest size requested.
+     */
+    private void resize(int maxSize) {
+        if (maxSize > this.maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    private void evict() {
+        var iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String hash(String credentials) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(Objects.requireNonNullElse(credentials, "").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Key(String baseUrl, String credentialsHash, String kind, String id) {
+    }
+
+    private record Entry(Object value, long loadedAt) {
+    }
+}
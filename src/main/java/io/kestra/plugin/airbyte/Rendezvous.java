@@ -0,0 +1,35 @@
+package io.kestra.plugin.airbyte;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Rendezvous (highest random weight) hashing: each key ranks the instances by a hash of the key and the instance, so
+ * adding or removing an instance only moves the keys it owned.
+ */
+final class Rendezvous {
+    private Rendezvous() {
+    }
+
+    /**
+     * The instances in preference order for the key.
+     */
+    static List<String> rank(List<String> urls, String key) {
+        return urls.stream()
+            .sorted(Comparator.comparingLong((String url) -> weight(key, url)).reversed())
+            .toList();
+    }
+
+    private static long weight(String key, String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest((key + "\n" + url).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
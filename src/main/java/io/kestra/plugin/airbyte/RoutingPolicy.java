@@ -0,0 +1,23 @@
+package io.kestra.plugin.airbyte;
+
+/**
+ * How a task picks one of several Airbyte instances. The choice is made once per task run; every later request of
+ * the run, retries and job polls included, goes to the same instance.
+ */
+public enum RoutingPolicy {
+    /**
+     * Always the same instance for a connection, spread over the instances by rendezvous hashing of the connection ID.
+     * Tasks without a connection use the first healthy instance.
+     */
+    PINNED,
+
+    /**
+     * The reachable instance with the fewest pending and running jobs, the first listed on ties.
+     */
+    LEAST_QUEUED,
+
+    /**
+     * The first healthy instance in the listed order.
+     */
+    FAILOVER
+}
@@ -5,14 +5,11 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-
-import org.apache.commons.io.IOUtils;
+import java.util.concurrent.Callable;
 
 import com.airbyte.api.Airbyte;
 import com.airbyte.api.models.shared.SchemeBasicAuth;
-import com.airbyte.api.models.shared.SchemeClientCredentials;
 import com.airbyte.api.models.shared.Security;
 import com.airbyte.api.utils.SpeakeasyHTTPClient;
 
@@ -34,6 +31,11 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 public abstract class AbstractAirbyteCloud extends Task {
     public static final String DEFAULT_TOKEN_URL = "https://api.airbyte.com/v1/applications/token";
+    public static final String DEFAULT_SERVER_URL = "https://api.airbyte.com/v1";
+
+    // only set by the tests, to send the requests to the API simulator instead of Airbyte Cloud
+    static volatile String serverUrlOverride;
+
     @Schema(
         title = "Bearer token",
         description = "Bearer token for the Airbyte Cloud API. If this is set, it is used before client credentials or basic auth"
@@ -50,7 +52,7 @@ public abstract class AbstractAirbyteCloud extends Task {
 
     @Schema(
         title = "Client secret",
-        description = "Airbyte application client secret used for client-credentials authentication. Store this value in a Secret"
+        description = "Airbyte application client secret used for client-credentials authentication. Store this value in a Secret. The access token is cached per worker, keyed by token URL, client ID and a hash of the secret, refreshed ahead of its expiry and read again for each request, so long waits never send an expired token"
     )
     @PluginProperty(secret = true, group = "connection")
     private Property<String> clientSecret;
@@ -77,19 +79,26 @@ public abstract class AbstractAirbyteCloud extends Task {
     @PluginProperty(secret = true, group = "connection")
     private Property<String> password;
 
+    @Schema(
+        title = "Maximum error body size",
+        description = "Maximum number of bytes of an error response body kept in the task error, the rest is discarded. Defaults to 64 KiB"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> maxErrorBodySize = Property.ofValue(64 * 1024);
+
     protected Airbyte client(RunContext runContext) throws Exception {
         Security security = new Security();
+        Callable<String> bearer = null;
 
         if (this.token != null) {
             security.withBearerAuth(runContext.render(this.token).as(String.class).orElseThrow());
         } else if (this.clientId != null && this.clientSecret != null) {
-            security.withClientCredentials(
-                new SchemeClientCredentials(
-                    runContext.render(this.clientId).as(String.class).orElseThrow(),
-                    runContext.render(this.clientSecret).as(String.class).orElseThrow(),
-                    runContext.render(this.tokenURL).as(String.class).orElse(DEFAULT_TOKEN_URL)
-                )
-            );
+            // resolved on every request, so clients kept for a long wait always send a fresh token
+            String tokenUrl = runContext.render(this.tokenURL).as(String.class).orElse(DEFAULT_TOKEN_URL);
+            String clientId = runContext.render(this.clientId).as(String.class).orElseThrow();
+            String clientSecret = runContext.render(this.clientSecret).as(String.class).orElseThrow();
+            bearer = () -> TokenCache.shared().token(tokenUrl, clientId, clientSecret, runContext.logger());
         } else {
             security.withBasicAuth(
                 new SchemeBasicAuth(
@@ -100,15 +109,26 @@ public abstract class AbstractAirbyteCloud extends Task {
         }
 
         return Airbyte.builder()
-            .client(new CustomHttpClient(runContext))
+            .serverURL(serverUrlOverride != null ? serverUrlOverride : DEFAULT_SERVER_URL)
+            .client(new CustomHttpClient(runContext, bearer))
             .security(security)
             .build();
     }
 
+    /**
+     * Sends the SDK requests through the {@link SharedHttpClient}, retrying throttled and server errors. With a
+     * {@code bearer} source, each attempt gets its {@code Authorization} header from it.
+     */
     public static class CustomHttpClient extends SpeakeasyHTTPClient {
         private final RetryUtils.Instance<HttpResponse<InputStream>, Exception> retry;
+        private final Callable<String> bearer;
 
         public CustomHttpClient(RunContext runContext) {
+            this(runContext, null);
+        }
+
+        public CustomHttpClient(RunContext runContext, Callable<String> bearer) {
+            this.bearer = bearer;
             retry = RetryUtils
                 .of(
                     Exponential.builder()
@@ -131,20 +151,27 @@ public abstract class AbstractAirbyteCloud extends Task {
                             || httpResponse.statusCode() == 425
                             || httpResponse.statusCode() == 429
                             || (httpResponse.statusCode() >= 500 && httpResponse.statusCode() != 501),
-                        () -> super.send(request)
+                        () -> SharedHttpClient.instance().send(this.authorize(request))
                     );
             } catch (Exception e) {
                 throw new IOException(e);
             }
         }
+
+        private HttpRequest authorize(HttpRequest request) throws Exception {
+            if (this.bearer == null) {
+                return request;
+            }
+
+            return HttpRequest.newBuilder(request, (name, value) -> !name.equalsIgnoreCase("Authorization"))
+                .header("Authorization", "Bearer " + this.bearer.call())
+                .build();
+        }
     }
 
-    protected void validate(HttpResponse<InputStream> response) throws Exception {
+    protected void validate(RunContext runContext, HttpResponse<InputStream> response) throws Exception {
         if (response.statusCode() >= 400) {
-            throw new Exception(
-                "Failed request with status " + response.statusCode() + " and body " +
-                    IOUtils.toString(response.body(), StandardCharsets.UTF_8)
-            );
+            throw AirbyteCloudException.of(response, runContext.render(this.maxErrorBodySize).as(Integer.class).orElseThrow());
         }
     }
 }
@@ -0,0 +1,125 @@
+package io.kestra.plugin.airbyte.cloud;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+import lombok.Getter;
+
+/**
+ * Failed Airbyte Cloud API call. Only the first {@code maxBodySize} bytes of the error body are kept, the Airbyte
+ * problem fields ({@code type}, {@code title}, {@code detail}) are parsed from it when it is JSON.
+ */
+@Getter
+public class AirbyteCloudException extends Exception {
+    /**
+     * Bytes read and discarded after the kept part so the connection can be reused, closed without draining beyond.
+     */
+    static final long MAX_DRAIN = 1024 * 1024;
+
+    private final int statusCode;
+    private final String type;
+    private final String title;
+    private final String detail;
+    private final String body;
+    private final long omittedBytes;
+    private final boolean drained;
+
+    private AirbyteCloudException(int statusCode, String type, String title, String detail, String body, long omittedBytes, boolean drained) {
+        super(message(statusCode, title, detail, body, omittedBytes, drained));
+        this.statusCode = statusCode;
+        this.type = type;
+        this.title = title;
+        this.detail = detail;
+        this.body = body;
+        this.omittedBytes = omittedBytes;
+        this.drained = drained;
+    }
+
+    /**
+     * Read at most {@code maxBodySize} bytes of the response body, then drain and close it.
+     */
+    public static AirbyteCloudException of(HttpResponse<InputStream> response, int maxBodySize) throws IOException {
+        byte[] kept;
+        long omittedBytes = 0;
+        boolean drained = true;
+
+        try (InputStream inputStream = response.body()) {
+            if (inputStream == null) {
+                kept = new byte[0];
+            } else {
+                kept = inputStream.readNBytes(Math.max(0, maxBodySize));
+
+                // skip() may return 0 before the end, read() tells them apart
+                while (omittedBytes < MAX_DRAIN) {
+                    long skipped = inputStream.skip(MAX_DRAIN - omittedBytes);
+                    if (skipped <= 0) {
+                        if (inputStream.read() < 0) {
+                            break;
+                        }
+                        skipped = 1;
+                    }
+                    omittedBytes += skipped;
+                }
+
+                if (omittedBytes >= MAX_DRAIN) {
+                    drained = inputStream.read() < 0;
+                }
+            }
+        }
+
+        String body = new String(kept, StandardCharsets.UTF_8);
+        Map<String, Object> problem = problem(body, omittedBytes);
+
+        return new AirbyteCloudException(
+            response.statusCode(),
+            string(problem.get("type")),
+            string(problem.get("title")),
+            string(problem.get("detail") != null ? problem.get("detail") : problem.get("message")),
+            body,
+            omittedBytes,
+            drained
+        );
+    }
+
+    private static Map<String, Object> problem(String body, long omittedBytes) {
+        // a truncated document is not valid JSON
+        if (omittedBytes > 0 || !body.stripLeading().startsWith("{")) {
+            return Map.of();
+        }
+
+        try {
+            return JacksonMapper.ofJson().readValue(body, JacksonMapper.MAP_TYPE_REFERENCE);
+        } catch (IOException e) {
+            return Map.of();
+        }
+    }
+
+    private static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static String message(int statusCode, String title, String detail, String body, long omittedBytes, boolean drained) {
+        StringBuilder message = new StringBuilder("Failed request with status " + statusCode);
+
+        if (title != null || detail != null) {
+            if (title != null) {
+                message.append(": ").append(title);
+            }
+            if (detail != null) {
+                message.append(title != null ? " - " : ": ").append(detail);
+            }
+        } else {
+            message.append(" and body ").append(body);
+            if (omittedBytes > 0) {
+                message.append("... (").append(drained ? "" : "more than ").append(omittedBytes).append(" more bytes)");
+            }
+        }
+
+        return message.toString();
+    }
+}
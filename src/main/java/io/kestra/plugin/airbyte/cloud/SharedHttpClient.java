@@ -0,0 +1,64 @@
+package io.kestra.plugin.airbyte.cloud;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Process-wide {@link HttpClient} used by every Airbyte Cloud task, so connections (HTTP/2 when the server supports it,
+ * kept alive otherwise) and TLS sessions are reused across tasks instead of being created for each request.
+ * <p>
+ * Requests run on virtual threads and at most {@code kestra.plugin.airbyte.cloud.maxConcurrentRequests} (default 64)
+ * are sent at once; the connect timeout is {@code kestra.plugin.airbyte.cloud.connectTimeout} (ISO-8601, default 10
+ * seconds). Both are read from system properties when the client is first used.
+ */
+public final class SharedHttpClient {
+    static final String MAX_CONCURRENT_REQUESTS_PROPERTY = "kestra.plugin.airbyte.cloud.maxConcurrentRequests";
+    static final String CONNECT_TIMEOUT_PROPERTY = "kestra.plugin.airbyte.cloud.connectTimeout";
+
+    private final HttpClient client;
+    private final Semaphore permits;
+
+    SharedHttpClient(int maxConcurrentRequests, Duration connectTimeout) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(connectTimeout)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        this.permits = new Semaphore(Math.max(1, maxConcurrentRequests), true);
+    }
+
+    public static SharedHttpClient instance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Send the request once a slot is available. The slot is released when the response headers are received, the
+     * caller is responsible for closing the body.
+     */
+    public HttpResponse<InputStream> send(HttpRequest request) throws IOException, InterruptedException {
+        permits.acquire();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } finally {
+            permits.release();
+        }
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private static final class Holder {
+        private static final SharedHttpClient INSTANCE = new SharedHttpClient(
+            Integer.getInteger(MAX_CONCURRENT_REQUESTS_PROPERTY, 64),
+            Duration.parse(System.getProperty(CONNECT_TIMEOUT_PROPERTY, "PT10S"))
+        );
+    }
+}
@@ -0,0 +1,154 @@
+package io.kestra.plugin.airbyte.cloud;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Airbyte application access tokens shared by every Airbyte Cloud task of the worker, keyed by token URL, client ID
+ * and a hash of the client secret.
+ * <p>
+ * A token is exchanged once and reused until it is about to expire: in the last {@link #REFRESH_AHEAD_RATIO} of its
+ * lifetime (at most {@link #MAX_REFRESH_AHEAD}), the current token is still returned while a single background
+ * exchange fetches the next one, so the rate-limited token endpoint is called about once per token lifetime.
+ */
+public final class TokenCache {
+    static final double REFRESH_AHEAD_RATIO = 0.2;
+    static final Duration MAX_REFRESH_AHEAD = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_EXPIRES_IN = Duration.ofMinutes(3);
+    private static final int MAX_ERROR_BODY = 1_024;
+
+    private static final TokenCache SHARED = new TokenCache(Clock.systemUTC());
+
+    private final Clock clock;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    TokenCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    public static TokenCache shared() {
+        return SHARED;
+    }
+
+    public String token(String tokenUrl, String clientId, String clientSecret) throws IOException, InterruptedException {
+        return this.token(tokenUrl, clientId, clientSecret, LoggerFactory.getLogger(TokenCache.class));
+    }
+
+    /**
+     * Same as {@link #token(String, String, String)}, logging the failures of the background refresh to {@code logger}.
+     */
+    public String token(String tokenUrl, String clientId, String clientSecret, Logger logger) throws IOException, InterruptedException {
+        Entry entry = entries.computeIfAbsent(new Key(tokenUrl, clientId, hash(clientSecret)), k -> new Entry());
+        Token token = entry.token;
+        Instant now = clock.instant();
+
+        if (token != null && now.isBefore(token.refreshAt)) {
+            return token.value;
+        }
+
+        if (token != null && now.isBefore(token.expiresAt)) {
+            Instant expiresAt = token.expiresAt;
+            if (entry.refreshing.compareAndSet(false, true)) {
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        this.refresh(entry, tokenUrl, clientId, clientSecret);
+                    } catch (Exception e) {
+                        // the current token is still valid, the next call retries once it expires
+                        logger.warn("Unable to refresh the Airbyte access token of client {} ahead of its expiry at {}: {}", clientId, expiresAt, e.getMessage());
+                    } finally {
+                        entry.refreshing.set(false);
+                    }
+                });
+            }
+            return token.value;
+        }
+
+        synchronized (entry) {
+            // another caller may have exchanged it while waiting
+            token = entry.token;
+            if (token != null && clock.instant().isBefore(token.expiresAt)) {
+                return token.value;
+            }
+
+            return this.refresh(entry, tokenUrl, clientId, clientSecret).value;
+        }
+    }
+
+    private Token refresh(Entry entry, String tokenUrl, String clientId, String clientSecret) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(tokenUrl))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(JacksonMapper.ofJson().writeValueAsBytes(Map.of(
+                "client_id", clientId,
+                "client_secret", clientSecret,
+                "grant-type", "client_credentials"
+            ))))
+            .build();
+
+        Instant requestedAt = clock.instant();
+        HttpResponse<InputStream> response = SharedHttpClient.instance().send(request);
+
+        Map<String, Object> body;
+        try (InputStream inputStream = response.body()) {
+            if (response.statusCode() >= 400) {
+                String error = new String(inputStream.readNBytes(MAX_ERROR_BODY), StandardCharsets.UTF_8);
+                throw new IOException("Failed to get an access token from " + tokenUrl + " with status " + response.statusCode() + " and body " + error);
+            }
+
+            body = JacksonMapper.ofJson().readValue(inputStream, JacksonMapper.MAP_TYPE_REFERENCE);
+        }
+
+        if (!(body.get("access_token") instanceof String accessToken)) {
+            throw new IOException("Missing access_token in the response of " + tokenUrl);
+        }
+
+        Duration expiresIn = body.get("expires_in") instanceof Number seconds ? Duration.ofSeconds(seconds.longValue()) : DEFAULT_EXPIRES_IN;
+        Duration refreshAhead = expiresIn.multipliedBy((long) (REFRESH_AHEAD_RATIO * 100)).dividedBy(100);
+        if (refreshAhead.compareTo(MAX_REFRESH_AHEAD) > 0) {
+            refreshAhead = MAX_REFRESH_AHEAD;
+        }
+
+        // lifetime counted from the request, the token may have been issued just before the response was received
+        Instant expiresAt = requestedAt.plus(expiresIn);
+        Token token = new Token(accessToken, expiresAt.minus(refreshAhead), expiresAt);
+        entry.token = token;
+
+        return token;
+    }
+
+    private static String hash(String secret) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Key(String tokenUrl, String clientId, String secretHash) {
+    }
+
+    private record Token(String value, Instant refreshAt, Instant expiresAt) {
+    }
+
+    private static final class Entry {
+        private volatile Token token;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+    }
+}
@@ -3,6 +3,7 @@ package io.kestra.plugin.airbyte.cloud.jobs;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 
@@ -97,19 +98,34 @@ public abstract class AbstractTrigger extends AbstractAirbyteCloud implements Ru
 
     abstract protected JobTypeEnum syncType();
 
+    /**
+     * A job to return instead of creating a new one, none by default.
+     */
+    protected Optional<JobResponse> reusableJob(RunContext runContext, Airbyte client) throws Exception {
+        return Optional.empty();
+    }
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
 
         Airbyte client = this.client(runContext);
 
+        Optional<JobResponse> reusableJob = this.reusableJob(runContext, client);
+        if (reusableJob.isPresent()) {
+            return AbstractTrigger.Output.builder()
+                .job(Job.of(reusableJob.get()))
+                .reused(true)
+                .build();
+        }
+
         JobCreateRequest createJobRequest = new JobCreateRequest(
             runContext.render(this.connectionId).as(String.class).orElse(null),
             this.syncType()
         );
 
         CreateJobResponse createJobResponse = client.jobs().createJob(createJobRequest);
-        this.validate(createJobResponse.rawResponse());
+        this.validate(runContext, createJobResponse.rawResponse());
 
         Job createJob = Job.of(createJobResponse.jobResponse().orElseThrow());
 
@@ -128,7 +144,7 @@ public abstract class AbstractTrigger extends AbstractAirbyteCloud implements Ru
             throwSupplier(() ->
             {
                 GetJobResponse job = client.jobs().getJob(getJobRequest);
-                this.validate(job.rawResponse());
+                this.validate(runContext, job.rawResponse());
 
                 // ended
                 if (ENDED_STATUS.contains(job.jobResponse().orElseThrow().status())) {
@@ -163,6 +179,13 @@ public abstract class AbstractTrigger extends AbstractAirbyteCloud implements Ru
             description = "Airbyte Cloud job returned by the task"
         )
         private final Job job;
+
+        @Schema(
+            title = "Reused",
+            description = "Whether an existing job was returned instead of creating a new one"
+        )
+        @Builder.Default
+        private final Boolean reused = false;
     }
 
     @Value
@@ -171,6 +194,9 @@ public abstract class AbstractTrigger extends AbstractAirbyteCloud implements Ru
         @Schema(title = "Job ID", description = "Airbyte Cloud job ID")
         public Long jobId;
 
+        @Schema(title = "Connection ID", description = "Airbyte Cloud connection ID of the job")
+        public String connectionId;
+
         @Schema(title = "Start time", description = "Timestamp when the job started")
         public ZonedDateTime startTime;
 
@@ -195,6 +221,7 @@ public abstract class AbstractTrigger extends AbstractAirbyteCloud implements Ru
         public static Job of(JobResponse jobResponse) {
             return Job.builder()
                 .jobId(jobResponse.jobId())
+                .connectionId(jobResponse.connectionId())
                 .startTime(ZonedDateTime.parse(jobResponse.startTime()))
                 .lastUpdatedAt(jobResponse.lastUpdatedAt().map(ZonedDateTime::parse).orElse(null))
                 .jobType(jobResponse.jobType())
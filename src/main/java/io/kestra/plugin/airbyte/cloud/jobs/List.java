@@ -0,0 +1,231 @@
+package io.kestra.plugin.airbyte.cloud.jobs;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.ZonedDateTime;
+
+import com.airbyte.api.Airbyte;
+import com.airbyte.api.models.operations.ListJobsRequest;
+import com.airbyte.api.models.operations.ListJobsResponse;
+import com.airbyte.api.models.shared.JobResponse;
+import com.airbyte.api.models.shared.JobStatusEnum;
+import com.airbyte.api.models.shared.JobTypeEnum;
+import com.airbyte.api.models.shared.JobsResponse;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.airbyte.cloud.AbstractAirbyteCloud;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "List Airbyte Cloud jobs",
+    description = "Pages through the Airbyte Cloud jobs matching the filters and writes them, with their stats, to an ION file in internal storage page by page, so large audits are not held in memory"
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "List the failed syncs of a workspace over the last 30 days",
+            code = """
+                id: airbyte_failed_jobs
+                namespace: company.team
+
+                tasks:
+                  - id: list
+                    type: io.kestra.plugin.airbyte.cloud.jobs.List
+                    clientId: "{{ secret('AIRBYTE_CLIENT_ID') }}"
+                    clientSecret: "{{ secret('AIRBYTE_CLIENT_SECRET') }}"
+                    workspaceIds:
+                      - 744cc0ed-7f05-4949-9e60-2a814f90c035
+                    status: FAILED
+                    jobType: SYNC
+                    createdAfter: "{{ now() | dateAdd(-30, 'DAYS') }}"
+                """
+        )
+    },
+    metrics = {
+        @Metric(name = "jobs", type = Counter.TYPE),
+        @Metric(name = "bytes_synced", type = Counter.TYPE),
+        @Metric(name = "rows_synced", type = Counter.TYPE)
+    }
+)
+public class List extends AbstractAirbyteCloud implements RunnableTask<List.Output> {
+    @Schema(
+        title = "Connection ID",
+        description = "Only list the jobs of this connection"
+    )
+    @PluginProperty(group = "main")
+    private Property<String> connectionId;
+
+    @Schema(
+        title = "Workspace IDs",
+        description = "Only list the jobs of these workspaces"
+    )
+    @PluginProperty(group = "main")
+    private Property<java.util.List<String>> workspaceIds;
+
+    @Schema(
+        title = "Status",
+        description = "Only list the jobs with this status"
+    )
+    @PluginProperty(group = "main")
+    private Property<JobStatusEnum> status;
+
+    @Schema(
+        title = "Job type",
+        description = "Only list the jobs of this type"
+    )
+    @PluginProperty(group = "main")
+    private Property<JobTypeEnum> jobType;
+
+    @Schema(
+        title = "Created after",
+        description = "Only list the jobs created at or after this date"
+    )
+    @PluginProperty(group = "main")
+    private Property<ZonedDateTime> createdAfter;
+
+    @Schema(
+        title = "Created before",
+        description = "Only list the jobs created at or before this date"
+    )
+    @PluginProperty(group = "main")
+    private Property<ZonedDateTime> createdBefore;
+
+    @Schema(
+        title = "Updated after",
+        description = "Only list the jobs updated at or after this date"
+    )
+    @PluginProperty(group = "main")
+    private Property<ZonedDateTime> updatedAfter;
+
+    @Schema(
+        title = "Updated before",
+        description = "Only list the jobs updated at or before this date"
+    )
+    @PluginProperty(group = "main")
+    private Property<ZonedDateTime> updatedBefore;
+
+    @Schema(
+        title = "Page size",
+        description = "Number of jobs requested per page, between 1 and 100. Defaults to 100"
+    )
+    @Builder.Default
+    @Min(1)
+    @Max(100)
+    @PluginProperty(group = "advanced")
+    private Property<Integer> pageSize = Property.ofValue(100);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Airbyte client = this.client(runContext);
+        int pageSize = runContext.render(this.pageSize).as(Integer.class).orElseThrow();
+
+        ListJobsRequest.Builder request = ListJobsRequest.builder()
+            .limit(pageSize)
+            .orderBy("createdAt|ASC");
+
+        runContext.render(this.connectionId).as(String.class).ifPresent(request::connectionId);
+        java.util.List<String> workspaceIds = runContext.render(this.workspaceIds).asList(String.class);
+        if (!workspaceIds.isEmpty()) {
+            request.workspaceIds(workspaceIds);
+        }
+        runContext.render(this.status).as(JobStatusEnum.class).ifPresent(request::status);
+        runContext.render(this.jobType).as(JobTypeEnum.class).ifPresent(request::jobType);
+        runContext.render(this.createdAfter).as(ZonedDateTime.class).ifPresent(date -> request.createdAtStart(date.toOffsetDateTime()));
+        runContext.render(this.createdBefore).as(ZonedDateTime.class).ifPresent(date -> request.createdAtEnd(date.toOffsetDateTime()));
+        runContext.render(this.updatedAfter).as(ZonedDateTime.class).ifPresent(date -> request.updatedAtStart(date.toOffsetDateTime()));
+        runContext.render(this.updatedBefore).as(ZonedDateTime.class).ifPresent(date -> request.updatedAtEnd(date.toOffsetDateTime()));
+
+        long size = 0;
+        long bytesSynced = 0;
+        long rowsSynced = 0;
+        int pages = 0;
+        File file = runContext.workingDir().createTempFile(".ion").toFile();
+
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+            while (true) {
+                ListJobsResponse response = client.jobs().listJobs(request.offset(pages * pageSize).build());
+                this.validate(runContext, response.rawResponse());
+                pages++;
+
+                java.util.List<JobResponse> data = response.jobsResponse().map(JobsResponse::data).orElse(java.util.List.of());
+
+                // each page is written and released before the next one is requested
+                for (JobResponse jobResponse : data) {
+                    AbstractTrigger.Job job = AbstractTrigger.Job.of(jobResponse);
+                    FileSerde.write(outputStream, job);
+
+                    size++;
+                    bytesSynced += job.getBytesSynced() == null ? 0 : job.getBytesSynced();
+                    rowsSynced += job.getRowsSynced() == null ? 0 : job.getRowsSynced();
+                }
+
+                boolean hasNext = response.jobsResponse().flatMap(JobsResponse::next).isPresent();
+                if (data.size() < pageSize || !hasNext) {
+                    break;
+                }
+            }
+        }
+
+        runContext.metric(Counter.of("jobs", size));
+        runContext.metric(Counter.of("bytes_synced", bytesSynced));
+        runContext.metric(Counter.of("rows_synced", rowsSynced));
+        runContext.logger().info("Listed {} job(s) in {} page(s)", size, pages);
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(file))
+            .size(size)
+            .bytesSynced(bytesSynced)
+            .rowsSynced(rowsSynced)
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Jobs file URI",
+            description = "Internal storage URI of the ION file with one job per row, including its duration, bytes and rows synced"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Job count",
+            description = "Number of jobs listed"
+        )
+        private final Long size;
+
+        @Schema(
+            title = "Bytes synced",
+            description = "Total bytes synced by the listed jobs"
+        )
+        private final Long bytesSynced;
+
+        @Schema(
+            title = "Rows synced",
+            description = "Total rows synced by the listed jobs"
+        )
+        private final Long rowsSynced;
+    }
+}
@@ -1,12 +1,25 @@
 package io.kestra.plugin.airbyte.cloud.jobs;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import com.airbyte.api.Airbyte;
+import com.airbyte.api.models.operations.ListJobsRequest;
+import com.airbyte.api.models.operations.ListJobsResponse;
+import com.airbyte.api.models.shared.JobResponse;
+import com.airbyte.api.models.shared.JobStatusEnum;
 import com.airbyte.api.models.shared.JobTypeEnum;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -44,7 +57,50 @@ import lombok.experimental.SuperBuilder;
     }
 )
 public class Sync extends AbstractTrigger {
+    @Schema(
+        title = "Maximum staleness",
+        description = "If the last successful sync of the connection was updated within this duration, return it instead of starting a new sync. By default, a sync is always started"
+    )
+    @PluginProperty(group = "execution")
+    private Property<Duration> maxStaleness;
+
     protected JobTypeEnum syncType() {
         return JobTypeEnum.SYNC;
     }
+
+    @Override
+    protected Optional<JobResponse> reusableJob(RunContext runContext, Airbyte client) throws Exception {
+        Optional<Duration> maxStaleness = runContext.render(this.maxStaleness).as(Duration.class);
+        if (maxStaleness.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ListJobsRequest listJobsRequest = ListJobsRequest.builder()
+            .connectionId(runContext.render(this.getConnectionId()).as(String.class).orElseThrow())
+            .jobType(JobTypeEnum.SYNC)
+            .status(JobStatusEnum.SUCCEEDED)
+            .orderBy("updatedAt|DESC")
+            .limit(1)
+            .build();
+
+        ListJobsResponse listJobsResponse = client.jobs().listJobs(listJobsRequest);
+        this.validate(runContext, listJobsResponse.rawResponse());
+
+        Instant threshold = Instant.now().minus(maxStaleness.get());
+
+        Optional<JobResponse> recent = listJobsResponse.jobsResponse()
+            .flatMap(jobs -> jobs.data().stream().findFirst())
+            .filter(job -> job.lastUpdatedAt()
+                .map(lastUpdatedAt -> ZonedDateTime.parse(lastUpdatedAt).toInstant().isAfter(threshold))
+                .orElse(false)
+            );
+
+        recent.ifPresent(job -> runContext.logger().info(
+            "Skipping sync, job {} succeeded at {} within the maximum staleness",
+            job.jobId(),
+            job.lastUpdatedAt().orElse(null)
+        ));
+
+        return recent;
+    }
 }
@@ -0,0 +1,235 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.event.Level;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClientException;
+import io.kestra.core.http.client.HttpClientRequestException;
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.airbyte.AbstractAirbyteConnection;
+import io.kestra.plugin.airbyte.models.JobInfo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Base of the tasks starting an Airbyte job on a connection, then waiting for it through {@link CheckStatus}.
+ */
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+public abstract class AbstractConnectionJob extends AbstractAirbyteConnection {
+    @Schema(
+        title = "Connection ID",
+        description = "Airbyte connection ID of the job"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> connectionId;
+
+    @Schema(
+        title = "Wait for completion",
+        description = "If `true`, wait for the Airbyte job to reach a terminal state before the task completes. Ignored when `completion` is `NOTIFICATION`. Defaults to `true`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> wait = Property.ofValue(true);
+
+    @Schema(
+        title = "Completion mode",
+        description = "`POLL` follows `wait`. `NOTIFICATION` registers the job in the namespace KV store and ends the task as soon as the job is created, so no worker is held while Airbyte runs; pause the execution after this task and resume it from a flow running `connections.ResolvePendingJobs` on the Airbyte webhook notifications. The registration expires after `maxDuration`. Defaults to `POLL`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<CompletionMode> completion = Property.ofValue(CompletionMode.POLL);
+
+    @Schema(
+        title = "Maximum wait duration",
+        description = "Maximum total time to wait when `wait` is enabled. Defaults to 60 minutes"
+    )
+    @Builder.Default
+    Property<Duration> maxDuration = Property.ofValue(Duration.ofMinutes(60));
+
+    @Schema(
+        title = "Poll frequency",
+        description = "Interval between status checks while waiting for the job to finish. Defaults to 1 second"
+    )
+    @Builder.Default
+    Property<Duration> pollFrequency = Property.ofValue(Duration.ofSeconds(1));
+
+    @Schema(
+        title = "Fail on active sync",
+        description = "If `true`, fail when Airbyte reports that a sync is already running for the connection. If `false`, the task succeeds with `alreadyRunning` set to `true`"
+    )
+    @Builder.Default
+    Property<Boolean> failOnActiveSync = Property.ofValue(true);
+
+    @Schema(
+        title = "Log destination",
+        description = "`LOGGER` forwards every Airbyte log line to the task logger. `STORAGE` writes one gzip-compressed file per attempt to internal storage, returned in the `attemptLogs` output, and only forwards ERROR lines and the last `logTailLines` lines of each attempt. Defaults to `LOGGER`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<LogDestination> logDestination = Property.ofValue(LogDestination.LOGGER);
+
+    @Schema(
+        title = "Log tail lines",
+        description = "Number of last log lines of each attempt forwarded to the task logger when `logDestination` is `STORAGE`. Defaults to 20"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> logTailLines = Property.ofValue(20);
+
+    @Schema(
+        title = "Minimum log level",
+        description = "Airbyte log lines below this level are not forwarded to the task logger. By default, every level is forwarded"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Level> minLogLevel;
+
+    @Schema(
+        title = "Maximum forwarded log lines per second",
+        description = "Budget of Airbyte log lines forwarded to the task logger per second. Lines over the budget are collapsed into \"N similar lines suppressed\" summaries, except the WARN and ERROR lines which are always forwarded. By default, there is no limit"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> maxLogLinesPerSecond;
+
+    @Schema(
+        title = "Structured logs",
+        description = "If `true`, forward the structured log events returned by Airbyte, with their own level and timestamp, instead of parsing the raw log lines. Events are deduplicated by timestamp, so reordered or truncated logs are handled. Falls back to raw log lines for attempts without events. Defaults to `false`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> structuredLogs = Property.ofValue(false);
+
+    @Schema(
+        title = "Log sources",
+        description = "With `structuredLogs`, only forward the events from these Airbyte log sources, e.g. `platform`, `source`, `destination` or `replication-orchestrator`. By default, every source is forwarded"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<List<String>> logSources;
+
+    @Schema(
+        title = "Stream metrics",
+        description = "Per-stream metrics emitted once the job ends, with stream statistics summed across attempts. `ALL` emits one series per stream, `TOP_N` one series for each of the `topStreams` streams with the most bytes and groups the others as `other`, `TOTALS` none. Totals across all streams are always emitted under their own `.total` metrics, e.g. `records.committed.total`. Defaults to `ALL`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<StreamMetrics> streamMetrics = Property.ofValue(StreamMetrics.ALL);
+
+    @Schema(
+        title = "Top streams",
+        description = "Number of streams with their own series when `streamMetrics` is `TOP_N`. Defaults to 10"
+    )
+    @Min(0)
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> topStreams = Property.ofValue(10);
+
+    /**
+     * Start the job with a POST on {@code path}, returning {@code null} when a sync is already running for the
+     * connection and {@code failOnActiveSync} is disabled.
+     */
+    protected JobInfo trigger(RunContext runContext, String path, Map<String, Object> body) throws Exception {
+        HttpResponse<JobInfo> response;
+
+        try {
+            HttpRequest.HttpRequestBuilder request = HttpRequest.builder()
+                .uri(URI.create(this.baseUrl(runContext) + path))
+                .method("POST")
+                .addHeader("Accept-Encoding", "identity")
+                .body(
+                    HttpRequest.JsonRequestBody.builder()
+                        .content(body)
+                        .build()
+                );
+
+            response = this.request(runContext, request, JobInfo.class);
+        } catch (HttpClientRequestException | HttpClientResponseException | SyncAlreadyRunningException | RuntimeException e) {
+            if (e.getMessage() != null && e.getMessage().contains("A sync is already running")) {
+                if (runContext.render(this.failOnActiveSync).as(Boolean.class).orElseThrow()) {
+                    throw e;
+                } else {
+                    return null;
+                }
+            }
+            throw e;
+        } catch (HttpClientException e) {
+            throw new RuntimeException("Request failed with error: " + e.getMessage(), e);
+        }
+
+        JobInfo jobInfoRead = Optional.ofNullable(response.getBody())
+            .orElseThrow(() -> new IllegalStateException("Missing body on trigger"));
+
+        runContext.logger().info("Job status {} with response: {}", response.getStatus(), jobInfoRead);
+
+        return jobInfoRead;
+    }
+
+    /**
+     * With the {@link CompletionMode#NOTIFICATION} completion mode, register the job so {@link ResolvePendingJobs} can
+     * resume this execution once it ends, and return {@code true}: the task must not wait for the job.
+     */
+    protected boolean registerForNotification(RunContext runContext, String connectionId, Long jobId) throws Exception {
+        if (runContext.render(this.completion).as(CompletionMode.class).orElseThrow() != CompletionMode.NOTIFICATION) {
+            return false;
+        }
+
+        Map<?, ?> execution = runContext.getVariables().get("execution") instanceof Map<?, ?> map ? map : Map.of();
+        PendingJobs.register(
+            runContext,
+            PendingJobs.PendingJob.builder()
+                .jobId(jobId)
+                .connectionId(connectionId)
+                .url(this.baseUrl(runContext))
+                .namespace(runContext.flowInfo().namespace())
+                .flowId(runContext.flowInfo().id())
+                .executionId(execution.get("id") == null ? null : execution.get("id").toString())
+                .registeredAt(Instant.now())
+                .build(),
+            runContext.render(this.maxDuration).as(Duration.class).orElseThrow()
+        );
+
+        runContext.logger().info("Job {} registered, its end is resolved from the Airbyte notification", jobId);
+        return true;
+    }
+
+    protected CheckStatus.Output waitFor(RunContext runContext, Long jobId) throws Exception {
+        CheckStatus checkStatus = CheckStatus.builder()
+            .url(Property.ofValue(this.baseUrl(runContext)))
+            .username(getUsername())
+            .password(getPassword())
+            .token(getToken())
+            .applicationCredentials(getApplicationCredentials())
+            .pollFrequency(pollFrequency)
+            .maxDuration(maxDuration)
+            .jobId(Property.ofValue(jobId.toString()))
+            .logDestination(logDestination)
+            .logTailLines(logTailLines)
+            .minLogLevel(minLogLevel)
+            .maxLogLinesPerSecond(maxLogLinesPerSecond)
+            .structuredLogs(structuredLogs)
+            .logSources(logSources)
+            .streamMetrics(streamMetrics)
+            .topStreams(topStreams)
+            .build();
+
+        return checkStatus.run(runContext);
+    }
+}
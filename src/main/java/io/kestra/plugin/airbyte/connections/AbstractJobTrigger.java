@@ -0,0 +1,174 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.airbyte.AbstractAirbyteConnection;
+import io.kestra.plugin.airbyte.AirbyteClient;
+import io.kestra.plugin.airbyte.models.AttemptStats;
+import io.kestra.plugin.airbyte.models.JobWithAttempts;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Base of the triggers watching the jobs of an Airbyte instance, with the same connection properties as the tasks.
+ */
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+public abstract class AbstractJobTrigger extends AbstractTrigger {
+    @Schema(
+        title = "Airbyte API URL",
+        description = "Base URL of the Airbyte instance to watch. This value is rendered from the trigger context"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> url;
+
+    @Schema(
+        title = "Workspace IDs",
+        description = "Workspaces whose jobs are watched, with a single query for all of them. Required unless `connectionIds` is set"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> workspaceIds;
+
+    @Schema(
+        title = "Connection IDs",
+        description = "Connections whose jobs are watched, with one query per connection. Required unless `workspaceIds` is set"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> connectionIds;
+
+    @Schema(
+        title = "Job types",
+        description = "Airbyte job config types to watch. Defaults to `sync`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<List<String>> configTypes = Property.ofValue(List.of("sync"));
+
+    @Schema(
+        title = "Basic auth username",
+        description = "Username for Airbyte basic authentication"
+    )
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> username;
+
+    @Schema(
+        title = "Basic auth password",
+        description = "Password for Airbyte basic authentication. Store this value in a Secret"
+    )
+    @PluginProperty(group = "connection", secret = true)
+    private Property<String> password;
+
+    @Schema(
+        title = "Bearer token",
+        description = "Bearer token used for Airbyte API requests"
+    )
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> token;
+
+    @Schema(
+        title = "Application credentials",
+        description = "Client credentials used to request an Airbyte application access token from `/api/v1/applications/token`"
+    )
+    @PluginProperty(group = "connection")
+    private AbstractAirbyteConnection.ApplicationCredentials applicationCredentials;
+
+    @Schema(
+        title = "HTTP client options",
+        description = "HTTP client configuration applied to Airbyte API requests"
+    )
+    @PluginProperty(group = "advanced")
+    private HttpConfiguration options;
+
+    /**
+     * Jobs of the watched workspaces and connections updated since {@code updatedAtStart} with one of the
+     * {@code statuses}, all of them when empty. Sorted by update date then job ID.
+     */
+    protected List<JobWithAttempts> updatedSince(RunContext runContext, List<String> statuses, Instant updatedAtStart) throws Exception {
+        AirbyteClient client = AirbyteClient.builder()
+            .username(this.username)
+            .password(this.password)
+            .token(this.token)
+            .applicationCredentials(this.applicationCredentials)
+            .options(this.options)
+            .build();
+        JobFeed feed = new JobFeed(client, runContext.render(this.url).as(String.class).orElseThrow());
+
+        return feed.updatedSince(
+            runContext,
+            runContext.render(this.workspaceIds).asList(String.class),
+            runContext.render(this.connectionIds).asList(String.class),
+            runContext.render(this.configTypes).asList(String.class),
+            statuses,
+            updatedAtStart
+        );
+    }
+
+    @Value
+    @Builder
+    public static class JobResult {
+        @Schema(title = "Job ID")
+        Long jobId;
+
+        @Schema(title = "Connection ID")
+        String connectionId;
+
+        @Schema(title = "Job type")
+        String configType;
+
+        @Schema(
+            title = "Status",
+            description = "Job status: `pending`, `running`, `incomplete`, `succeeded`, `failed` or `cancelled`"
+        )
+        String status;
+
+        @Schema(title = "Creation date")
+        Instant createdAt;
+
+        @Schema(title = "Last update date")
+        Instant updatedAt;
+
+        @Schema(title = "Attempts")
+        Integer attempts;
+
+        @Schema(title = "Records committed", description = "Records committed across all streams and attempts")
+        Long recordsCommitted;
+
+        @Schema(title = "Bytes emitted", description = "Bytes emitted across all streams and attempts")
+        Long bytesEmitted;
+
+        @Schema(title = "Streams", description = "Statistics of each stream, summed across attempts")
+        List<CheckStatus.StreamResult> streams;
+
+        static JobResult of(JobWithAttempts job) {
+            Map<String, AttemptStats> streams = StreamStatistics.aggregate(job.getAttempts() == null ? List.of() : job.getAttempts());
+            AttemptStats total = StreamStatistics.total(streams.values());
+
+            return JobResult.builder()
+                .jobId(job.getJob().getId())
+                .connectionId(job.getJob().getConfigId())
+                .configType(job.getJob().getConfigType() == null ? null : job.getJob().getConfigType().toString())
+                .status(job.getJob().getStatus() == null ? null : job.getJob().getStatus().toString())
+                .createdAt(job.getJob().getCreatedAt())
+                .updatedAt(job.getJob().getUpdatedAt())
+                .attempts(job.getAttempts() == null ? 0 : job.getAttempts().size())
+                .recordsCommitted(total.getRecordsCommitted())
+                .bytesEmitted(total.getBytesEmitted())
+                .streams(streams.entrySet().stream().map(entry -> CheckStatus.StreamResult.of(entry.getKey(), entry.getValue())).toList())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import io.kestra.core.runners.RunContext;
+
+/**
+ * Streams attempt logs to gzip-compressed files, one per attempt, that are uploaded to internal storage on {@link #close()}.
+ * Memory is bounded by the writer buffers and the tail kept for each attempt.
+ */
+class AttemptLogStorage {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final RunContext runContext;
+    private final Logger logger;
+    private final LogForwarder forwarder;
+    private final int tailLines;
+    private final TreeMap<Integer, AttemptFile> files = new TreeMap<>();
+
+    AttemptLogStorage(RunContext runContext, LogForwarder forwarder, int tailLines) {
+        this.runContext = runContext;
+        this.logger = runContext.logger();
+        this.forwarder = forwarder;
+        this.tailLines = Math.max(0, tailLines);
+    }
+
+    void write(int attempt, String line, Level level) throws IOException {
+        AttemptFile file = files.get(attempt);
+        if (file == null) {
+            file = new AttemptFile(runContext.workingDir().createTempFile(".log.gz"));
+            files.put(attempt, file);
+        }
+
+        file.writer.write(line);
+        file.writer.write('\n');
+        file.lines++;
+
+        if (level == Level.ERROR) {
+            forwarder.forward(line, level);
+        } else if (tailLines > 0) {
+            if (file.tail.size() == tailLines) {
+                file.tail.removeFirst();
+            }
+            file.tail.addLast(new TailLine(line, level));
+        }
+    }
+
+    /**
+     * Flush the tails to the logger and upload every attempt file, returning the URIs in attempt order.
+     */
+    List<URI> close() throws IOException {
+        // every writer is closed, even when one fails, before anything is uploaded
+        IOException closeFailure = null;
+        for (AttemptFile file : files.values()) {
+            try {
+                file.writer.close();
+            } catch (IOException e) {
+                if (closeFailure == null) {
+                    closeFailure = e;
+                } else {
+                    closeFailure.addSuppressed(e);
+                }
+            }
+        }
+        if (closeFailure != null) {
+            throw closeFailure;
+        }
+
+        List<URI> uris = new ArrayList<>();
+        for (var entry : files.entrySet()) {
+            AttemptFile file = entry.getValue();
+
+            if (!file.tail.isEmpty()) {
+                logger.info("Last {} of {} log lines of attempt {}:", file.tail.size(), file.lines, entry.getKey());
+                file.tail.forEach(tailLine -> forwarder.forward(tailLine.line(), tailLine.level()));
+            }
+
+            URI uri = runContext.storage().putFile(file.path.toFile());
+            Files.deleteIfExists(file.path);
+            uris.add(uri);
+        }
+
+        files.clear();
+
+        return uris;
+    }
+
+    /**
+     * A line of the tail with the level it was written with, as structured events carry no level marker.
+     */
+    private record TailLine(String line, Level level) {
+    }
+
+    private static class AttemptFile {
+        private final Path path;
+        private final Writer writer;
+        private final ArrayDeque<TailLine> tail = new ArrayDeque<>();
+        private long lines;
+
+        private AttemptFile(Path path) throws IOException {
+            this.path = path;
+            this.writer = new BufferedWriter(
+                new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(path), BUFFER_SIZE), StandardCharsets.UTF_8),
+                BUFFER_SIZE
+            );
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.kestra.plugin.airbyte.connections;
+
+/**
+ * Start order of the syncs of a batch, after the priority overrides.
+ */
+public enum BatchOrder {
+    /**
+     * Start the connections in the order they are listed.
+     */
+    LIST,
+
+    /**
+     * Start the connections with the longest past job durations first, to shorten the whole batch.
+     */
+    LONGEST_FIRST
+}
@@ -0,0 +1,242 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+
+import io.kestra.plugin.airbyte.models.AttemptStats;
+import io.kestra.plugin.airbyte.models.JobInfo;
+import io.kestra.plugin.airbyte.models.JobStatus;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Syncs many connections with a bounded parallelism from a single thread: each loop starts pending connections while
+ * slots are free, then polls every running job once.
+ * <p>
+ * A connection only starts once the connections it {@link Item#getDependsOn() depends on} have succeeded, and is
+ * skipped as soon as one of them ends otherwise. Among the ready connections, the list order is kept.
+ * <p>
+ * A failed poll is retried on the next loop. Past the maximum duration, the jobs still running are reported with
+ * the {@code running} status before failing with a {@link TimeoutException}.
+ */
+class BatchRunner {
+    static final String SKIPPED = "skipped";
+
+    private static final List<JobStatus> ENDED_JOB_STATUS = List.of(
+        JobStatus.FAILED,
+        JobStatus.CANCELLED,
+        JobStatus.SUCCEEDED
+    );
+
+    private final Client client;
+    private final Logger logger;
+    private final int parallelism;
+    private final Duration pollFrequency;
+    private final Duration maxDuration;
+
+    BatchRunner(Client client, Logger logger, int parallelism, Duration pollFrequency, Duration maxDuration) {
+        this.client = client;
+        this.logger = logger;
+        this.parallelism = Math.max(1, parallelism);
+        this.pollFrequency = pollFrequency;
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * Sync the connections in the given order, calling {@code listener} as soon as each one ends.
+     */
+    List<Summary> run(List<Item> items, Listener listener) throws Exception {
+        List<Item> pending = new ArrayList<>(items);
+        Map<Long, Running> running = new LinkedHashMap<>();
+        List<Summary> summaries = new ArrayList<>(items.size());
+        Map<String, Summary> ended = new HashMap<>();
+        Instant deadline = Instant.now().plus(maxDuration);
+
+        while (!pending.isEmpty() || !running.isEmpty()) {
+            for (Iterator<Item> iterator = pending.iterator(); iterator.hasNext() && running.size() < parallelism; ) {
+                Item item = iterator.next();
+                Instant startedAt = Instant.now();
+
+                Optional<Summary> blocking = item.getDependsOn().stream()
+                    .map(ended::get)
+                    .filter(dependency -> dependency != null && !dependency.succeeded())
+                    .findFirst();
+                if (blocking.isPresent()) {
+                    iterator.remove();
+                    this.completed(summaries, ended, listener, Summary.of(
+                        item, null, SKIPPED, startedAt, null,
+                        "Dependency " + blocking.get().getName() + " ended with status '" + blocking.get().getStatus() + "'"
+                    ));
+                    // a skip can block connections listed before this one
+                    iterator = pending.iterator();
+                    continue;
+                }
+
+                if (!item.getDependsOn().stream().allMatch(ended::containsKey)) {
+                    continue;
+                }
+
+                iterator.remove();
+
+                try {
+                    Long jobId = client.start(item.getConnectionId());
+                    if (jobId == null) {
+                        this.completed(summaries, ended, listener, Summary.of(item, null, "already_running", startedAt, null, null));
+                    } else {
+                        logger.info("Started job {} for connection {}", jobId, item.getName());
+                        running.put(jobId, new Running(item, startedAt));
+                    }
+                } catch (Exception e) {
+                    logger.warn("Unable to start a sync of connection {}: {}", item.getName(), e.getMessage());
+                    this.completed(summaries, ended, listener, Summary.of(item, null, JobStatus.FAILED.toString(), startedAt, null, e.getMessage()));
+                }
+            }
+
+            if (running.isEmpty()) {
+                if (!pending.isEmpty() && pending.stream().noneMatch(item -> item.getDependsOn().stream().allMatch(ended::containsKey))) {
+                    throw new IllegalStateException("Unresolvable dependencies for connection(s) " + pending.stream().map(Item::getName).toList());
+                }
+                continue;
+            }
+
+            if (Instant.now().isAfter(deadline)) {
+                for (Map.Entry<Long, Running> entry : running.entrySet()) {
+                    logger.warn("Job {} of connection {} still running after {}", entry.getKey(), entry.getValue().item.getName(), maxDuration);
+                    Summary summary = Summary.of(entry.getValue().item, null, JobStatus.RUNNING.toString(), entry.getValue().startedAt, null, "Still running after " + maxDuration)
+                        .toBuilder()
+                        .jobId(entry.getKey())
+                        .build();
+                    summaries.add(summary);
+                    listener.completed(summary);
+                }
+
+                throw new TimeoutException(running.size() + " sync(s) still running after " + maxDuration + ", jobs " + running.keySet());
+            }
+
+            Thread.sleep(pollFrequency.toMillis());
+
+            for (Iterator<Map.Entry<Long, Running>> iterator = running.entrySet().iterator(); iterator.hasNext(); ) {
+                Map.Entry<Long, Running> entry = iterator.next();
+                JobInfo jobInfo;
+                try {
+                    jobInfo = client.get(entry.getKey());
+                } catch (Exception e) {
+                    logger.warn("Unable to check job {} of connection {}, retrying on the next poll: {}", entry.getKey(), entry.getValue().item.getName(), e.getMessage());
+                    continue;
+                }
+
+                if (jobInfo == null || jobInfo.getJob() == null || !ENDED_JOB_STATUS.contains(jobInfo.getJob().getStatus())) {
+                    continue;
+                }
+
+                iterator.remove();
+                this.completed(
+                    summaries,
+                    ended,
+                    listener,
+                    Summary.of(entry.getValue().item, jobInfo, jobInfo.getJob().getStatus().toString(), entry.getValue().startedAt, Instant.now(), null)
+                );
+            }
+        }
+
+        return summaries;
+    }
+
+    private void completed(List<Summary> summaries, Map<String, Summary> ended, Listener listener, Summary summary) throws Exception {
+        logger.info("Connection {} ended with status '{}'", summary.getName(), summary.getStatus());
+        summaries.add(summary);
+        ended.put(summary.getConnectionId(), summary);
+        listener.completed(summary);
+    }
+
+    interface Client {
+        /**
+         * Start a sync and return its job ID, or {@code null} when a sync is already running for the connection.
+         */
+        Long start(String connectionId) throws Exception;
+
+        JobInfo get(long jobId) throws Exception;
+    }
+
+    interface Listener {
+        void completed(Summary summary) throws Exception;
+    }
+
+    @Value
+    @Builder(toBuilder = true)
+    static class Item {
+        String connectionId;
+        String name;
+        Duration expectedDuration;
+
+        /**
+         * Connection IDs that must succeed before this connection starts.
+         */
+        @Builder.Default
+        List<String> dependsOn = List.of();
+    }
+
+    private record Running(Item item, Instant startedAt) {
+    }
+
+    @Value
+    @Builder(toBuilder = true)
+    public static class Summary {
+        String connectionId;
+        String name;
+        Long jobId;
+        String status;
+        Instant startedAt;
+        Instant endedAt;
+        Long durationMs;
+        Integer attempts;
+        Long recordsCommitted;
+        Long bytesEmitted;
+        String error;
+
+        static Summary of(Item item, JobInfo jobInfo, String status, Instant startedAt, Instant endedAt, String error) {
+            SummaryBuilder builder = Summary.builder()
+                .connectionId(item.getConnectionId())
+                .name(item.getName())
+                .status(status)
+                .startedAt(startedAt)
+                .endedAt(endedAt)
+                .durationMs(endedAt == null ? null : Duration.between(startedAt, endedAt).toMillis())
+                .error(error);
+
+            // the job timestamps are more accurate than the polls that observed the job
+            if (jobInfo != null && jobInfo.getJob().getCreatedAt() != null && jobInfo.getJob().getUpdatedAt() != null) {
+                builder.durationMs(Duration.between(jobInfo.getJob().getCreatedAt(), jobInfo.getJob().getUpdatedAt()).toMillis());
+            }
+
+            if (jobInfo != null) {
+                AttemptStats total = jobInfo.getAttempts() == null ?
+                    AttemptStats.builder().build() :
+                    StreamStatistics.total(StreamStatistics.aggregate(jobInfo).values());
+
+                builder
+                    .jobId(jobInfo.getJob().getId())
+                    .attempts(jobInfo.getAttempts() == null ? 0 : jobInfo.getAttempts().size())
+                    .recordsCommitted(total.getRecordsCommitted())
+                    .bytesEmitted(total.getBytesEmitted());
+            }
+
+            return builder.build();
+        }
+
+        boolean succeeded() {
+            return JobStatus.SUCCEEDED.toString().equals(status);
+        }
+    }
+}
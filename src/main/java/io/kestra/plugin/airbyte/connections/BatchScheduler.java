@@ -0,0 +1,180 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+/**
+ * Start order of a batch of syncs: highest priority first, then longest expected duration first (LPT), which keeps a
+ * long connection from starting last and stretching the whole batch.
+ * <p>
+ * Within a dependency graph, the items on the longest remaining chain start first instead.
+ * <p>
+ * Expected durations are the average of the last {@link #HISTORY_SIZE} job durations of each connection, kept in the
+ * namespace KV store.
+ */
+final class BatchScheduler {
+    static final int HISTORY_SIZE = 5;
+    private static final Duration HISTORY_TTL = Duration.ofDays(90);
+
+    private BatchScheduler() {
+    }
+
+    /**
+     * Sort the items by priority, then expected duration, both descending. Items without history are given the
+     * average expected duration of the others; the sort is stable so list order breaks ties.
+     */
+    static List<BatchRunner.Item> order(List<BatchRunner.Item> items, Map<String, Integer> priorities) {
+        Duration fallback = fallback(items);
+
+        List<BatchRunner.Item> ordered = new ArrayList<>(items);
+        ordered.sort(
+            Comparator.comparingInt((BatchRunner.Item item) -> priority(item, priorities)).reversed()
+                .thenComparing(Comparator.comparing((BatchRunner.Item item) -> estimate(item, fallback)).reversed())
+        );
+
+        return ordered;
+    }
+
+    /**
+     * Sort the items of a dependency graph by critical path, descending: the expected duration of the item plus the
+     * longest chain of items depending on it. Items without history are given the average expected duration of the
+     * others, or one second when none has history so the longest chains start first.
+     */
+    static List<BatchRunner.Item> criticalPathOrder(List<BatchRunner.Item> items) {
+        Duration average = fallback(items);
+        Duration fallback = average.isZero() ? Duration.ofSeconds(1) : average;
+
+        Map<String, List<BatchRunner.Item>> dependents = new HashMap<>();
+        for (BatchRunner.Item item : items) {
+            for (String dependency : item.getDependsOn()) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(item);
+            }
+        }
+
+        Map<String, Duration> criticalPaths = new HashMap<>();
+        items.forEach(item -> criticalPath(item, dependents, fallback, criticalPaths));
+
+        List<BatchRunner.Item> ordered = new ArrayList<>(items);
+        ordered.sort(Comparator.comparing((BatchRunner.Item item) -> criticalPaths.get(item.getConnectionId())).reversed());
+
+        return ordered;
+    }
+
+    /**
+     * Makespan of starting the items in order on {@code parallelism} slots, each one on the first slot to free up.
+     */
+    static Duration makespan(List<BatchRunner.Item> ordered, int parallelism) {
+        Duration fallback = fallback(ordered);
+        PriorityQueue<Duration> slots = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, parallelism); i++) {
+            slots.add(Duration.ZERO);
+        }
+
+        Duration makespan = Duration.ZERO;
+        for (BatchRunner.Item item : ordered) {
+            Duration end = slots.poll().plus(estimate(item, fallback));
+            slots.add(end);
+            if (end.compareTo(makespan) > 0) {
+                makespan = end;
+            }
+        }
+
+        return makespan;
+    }
+
+    static Optional<Duration> expected(KVStore kvStore, String connectionId) throws Exception {
+        List<Long> history = history(kvStore, connectionId);
+        if (history.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Duration.ofMillis((long) history.stream().mapToLong(Long::longValue).average().orElseThrow()));
+    }
+
+    static void record(KVStore kvStore, String connectionId, Duration duration) throws Exception {
+        List<Long> history = new ArrayList<>(history(kvStore, connectionId));
+        history.add(duration.toMillis());
+        if (history.size() > HISTORY_SIZE) {
+            history = history.subList(history.size() - HISTORY_SIZE, history.size());
+        }
+
+        kvStore.put(
+            key(connectionId),
+            new KVValueAndMetadata(new KVMetadata("Last Airbyte sync durations of the connection, in milliseconds", HISTORY_TTL), List.copyOf(history))
+        );
+    }
+
+    private static List<Long> history(KVStore kvStore, String connectionId) throws Exception {
+        Optional<KVValue> value = kvStore.getValue(key(connectionId));
+        if (value.isEmpty() || !(value.get().value() instanceof List<?> list)) {
+            return List.of();
+        }
+
+        return list.stream()
+            .filter(Number.class::isInstance)
+            .map(number -> ((Number) number).longValue())
+            .toList();
+    }
+
+    private static String key(String connectionId) {
+        return "airbyte.sync-durations." + connectionId;
+    }
+
+    private static Duration criticalPath(BatchRunner.Item item, Map<String, List<BatchRunner.Item>> dependents, Duration fallback, Map<String, Duration> criticalPaths) {
+        Duration known = criticalPaths.get(item.getConnectionId());
+        if (known != null) {
+            return known;
+        }
+
+        Duration longest = Duration.ZERO;
+        for (BatchRunner.Item dependent : dependents.getOrDefault(item.getConnectionId(), List.of())) {
+            Duration path = criticalPath(dependent, dependents, fallback, criticalPaths);
+            if (path.compareTo(longest) > 0) {
+                longest = path;
+            }
+        }
+
+        Duration criticalPath = estimate(item, fallback).plus(longest);
+        criticalPaths.put(item.getConnectionId(), criticalPath);
+
+        return criticalPath;
+    }
+
+    private static int priority(BatchRunner.Item item, Map<String, Integer> priorities) {
+        Integer priority = priorities.get(item.getConnectionId());
+        if (priority == null && item.getName() != null) {
+            priority = priorities.get(item.getName());
+        }
+
+        return priority == null ? 0 : priority;
+    }
+
+    private static Duration estimate(BatchRunner.Item item, Duration fallback) {
+        return item.getExpectedDuration() == null ? fallback : item.getExpectedDuration();
+    }
+
+    private static Duration fallback(List<BatchRunner.Item> items) {
+        List<Duration> known = items.stream()
+            .map(BatchRunner.Item::getExpectedDuration)
+            .filter(Objects::nonNull)
+            .toList();
+
+        if (known.isEmpty()) {
+            return Duration.ZERO;
+        }
+
+        return known.stream().reduce(Duration.ZERO, Duration::plus).dividedBy(known.size());
+    }
+}
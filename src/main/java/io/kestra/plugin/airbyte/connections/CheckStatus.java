@@ -1,11 +1,18 @@
 package io.kestra.plugin.airbyte.connections;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
+import org.slf4j.event.Level;
 
 import io.kestra.core.http.HttpRequest;
 import io.kestra.core.http.HttpResponse;
@@ -16,14 +23,18 @@ import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.utils.Await;
 import io.kestra.plugin.airbyte.AbstractAirbyteConnection;
-import io.kestra.plugin.airbyte.models.Attempt;
 import io.kestra.plugin.airbyte.models.AttemptInfo;
+import io.kestra.plugin.airbyte.models.AttemptStats;
+import io.kestra.plugin.airbyte.models.Event;
 import io.kestra.plugin.airbyte.models.JobInfo;
 import io.kestra.plugin.airbyte.models.JobStatus;
+import io.kestra.plugin.airbyte.models.Log;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -38,7 +49,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 @NoArgsConstructor
 @Schema(
     title = "Wait for an Airbyte job",
-    description = "Polls Airbyte until a job reaches a terminal state, streams attempt logs, and emits sync metrics. Polling runs every second for up to 60 minutes unless you change `pollFrequency` or `maxDuration`"
+    description = "Polls Airbyte until a job reaches a terminal state, streams attempt logs, and emits sync metrics. Polling runs every second for up to 60 minutes unless you change `pollFrequency` or `maxDuration`. Set `logDestination: STORAGE` to keep chatty connector logs out of the task logs"
 )
 @Plugin(
     examples = {
@@ -54,6 +65,22 @@ import io.kestra.core.models.annotations.PluginProperty;
                     url: http://localhost:8080
                     jobId: "970"
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Store attempt logs in internal storage and only log errors and the last lines",
+            code = """
+                id: airbyte_check_status_stored_logs
+                namespace: company.team
+
+                tasks:
+                  - id: check_status
+                    type: io.kestra.plugin.airbyte.connections.CheckStatus
+                    url: http://localhost:8080
+                    jobId: "970"
+                    logDestination: STORAGE
+                    logTailLines: 50
+                """
         )
     },
     metrics = {
@@ -67,25 +94,49 @@ import io.kestra.core.models.annotations.PluginProperty;
             name = "records.committed",
             type = Counter.TYPE,
             unit = "record",
-            description = "Number of records successfully committed"
+            description = "Number of records successfully committed, per stream (`stream` tag) depending on `streamMetrics`"
+        ),
+        @Metric(
+            name = "records.committed.total",
+            type = Counter.TYPE,
+            unit = "record",
+            description = "Number of records successfully committed across all streams"
         ),
         @Metric(
             name = "records.emitted",
             type = Counter.TYPE,
             unit = "record",
-            description = "Number of records emitted during processing"
+            description = "Number of records emitted during processing, per stream (`stream` tag) depending on `streamMetrics`"
+        ),
+        @Metric(
+            name = "records.emitted.total",
+            type = Counter.TYPE,
+            unit = "record",
+            description = "Number of records emitted during processing across all streams"
         ),
         @Metric(
             name = "bytes.emitted",
             type = Counter.TYPE,
             unit = "byte",
-            description = "Number of bytes emitted during processing"
+            description = "Number of bytes emitted during processing, per stream (`stream` tag) depending on `streamMetrics`"
+        ),
+        @Metric(
+            name = "bytes.emitted.total",
+            type = Counter.TYPE,
+            unit = "byte",
+            description = "Number of bytes emitted during processing across all streams"
         ),
         @Metric(
             name = "state.emitted",
             type = Counter.TYPE,
             unit = "message",
-            description = "Number of state messages emitted"
+            description = "Number of state messages emitted, per stream (`stream` tag) depending on `streamMetrics`"
+        ),
+        @Metric(
+            name = "state.emitted.total",
+            type = Counter.TYPE,
+            unit = "message",
+            description = "Number of state messages emitted across all streams"
         )
     }
 )
@@ -111,10 +162,6 @@ public class CheckStatus extends AbstractAirbyteConnection implements RunnableTa
     @Builder.Default
     Property<Duration> maxDuration = Property.ofValue(Duration.ofMinutes(60));
 
-    @Builder.Default
-    @Getter(AccessLevel.NONE)
-    private transient Map<Integer, Integer> loggedLine = new HashMap<>();
-
     @Schema(
         title = "Poll frequency",
         description = "Interval between Airbyte job status checks. Defaults to 1 second"
@@ -122,10 +169,85 @@ public class CheckStatus extends AbstractAirbyteConnection implements RunnableTa
     @Builder.Default
     Property<Duration> pollFrequency = Property.ofValue(Duration.ofSeconds(1));
 
+    @Schema(
+        title = "Log destination",
+        description = "`LOGGER` forwards every Airbyte log line to the task logger. `STORAGE` writes one gzip-compressed file per attempt to internal storage, returned in the `attemptLogs` output, and only forwards ERROR lines and the last `logTailLines` lines of each attempt. Defaults to `LOGGER`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<LogDestination> logDestination = Property.ofValue(LogDestination.LOGGER);
+
+    @Schema(
+        title = "Log tail lines",
+        description = "Number of last log lines of each attempt forwarded to the task logger when `logDestination` is `STORAGE`. Defaults to 20"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> logTailLines = Property.ofValue(20);
+
+    @Schema(
+        title = "Minimum log level",
+        description = "Airbyte log lines below this level are not forwarded to the task logger. By default, every level is forwarded"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Level> minLogLevel;
+
+    @Schema(
+        title = "Maximum forwarded log lines per second",
+        description = "Budget of Airbyte log lines forwarded to the task logger per second. Lines over the budget are collapsed into \"N similar lines suppressed\" summaries, except the WARN and ERROR lines which are always forwarded. By default, there is no limit"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> maxLogLinesPerSecond;
+
+    @Schema(
+        title = "Structured logs",
+        description = "If `true`, forward the structured log events returned by Airbyte, with their own level and timestamp, instead of parsing the raw log lines. Events are deduplicated by timestamp, so reordered or truncated logs are handled. Falls back to raw log lines for attempts without events. Defaults to `false`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> structuredLogs = Property.ofValue(false);
+
+    @Schema(
+        title = "Log sources",
+        description = "With `structuredLogs`, only forward the events from these Airbyte log sources, e.g. `platform`, `source`, `destination` or `replication-orchestrator`. By default, every source is forwarded"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<List<String>> logSources;
+
+    @Schema(
+        title = "Stream metrics",
+        description = "Per-stream metrics emitted once the job ends, with stream statistics summed across attempts. `ALL` emits one series per stream, `TOP_N` one series for each of the `topStreams` streams with the most bytes and groups the others as `other`, `TOTALS` none. Totals across all streams are always emitted under their own `.total` metrics, e.g. `records.committed.total`. Defaults to `ALL`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<StreamMetrics> streamMetrics = Property.ofValue(StreamMetrics.ALL);
+
+    @Schema(
+        title = "Top streams",
+        description = "Number of streams with their own series when `streamMetrics` is `TOP_N`. Defaults to 10"
+    )
+    @Min(0)
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> topStreams = Property.ofValue(10);
+
     @Override
     public CheckStatus.Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
 
+        LogForwarder logForwarder = new LogForwarder(
+            logger,
+            runContext.render(this.minLogLevel).as(Level.class).orElse(null),
+            runContext.render(this.maxLogLinesPerSecond).as(Integer.class).orElse(null)
+        );
+        AttemptLogStorage logStorage = runContext.render(this.logDestination).as(LogDestination.class).orElseThrow() == LogDestination.STORAGE
+            ? new AttemptLogStorage(runContext, logForwarder, runContext.render(this.logTailLines).as(Integer.class).orElseThrow())
+            : null;
+        boolean structured = runContext.render(this.structuredLogs).as(Boolean.class).orElseThrow();
+        List<String> renderedLogSources = runContext.render(this.logSources).asList(String.class);
+        LogCursor logCursor = new LogCursor();
+        List<URI> attemptLogs = null;
+
         // Init with 1 as when triggering sync, an attempt is automatically generated
         AtomicInteger attemptCounter = new AtomicInteger(1);
 
@@ -133,112 +255,182 @@ public class CheckStatus extends AbstractAirbyteConnection implements RunnableTa
         Long jobIdRendered = Long.parseLong(runContext.render(this.jobId).as(String.class).orElse(null));
 
         // wait for end
-        JobInfo finalJobStatus = Await.until(
-            throwSupplier(() ->
-            {
-                HttpRequest.HttpRequestBuilder fetchJobRequest = HttpRequest.builder()
-                    .uri(URI.create(getUrl() + "/api/v1/jobs/get/"))
-                    .method("POST")
-                    .body(
-                        HttpRequest.JsonRequestBody.builder()
-                            .content(Map.of("id", jobIdRendered))
-                            .build()
-                    );
-
-                HttpResponse<JobInfo> response = this.request(runContext, fetchJobRequest, JobInfo.class);
-
-                if (response.getBody() != null) {
-                    JobInfo jobStatus = response.getBody();
-                    sendLog(logger, jobStatus);
-
-                    // ended
-                    if (ENDED_JOB_STATUS.contains(jobStatus.getJob().getStatus())) {
-                        return jobStatus;
-                    }
+        JobInfo finalJobStatus;
+        Exception waitFailure = null;
+        try {
+            finalJobStatus = Await.until(
+                throwSupplier(() ->
+                {
+                    HttpRequest.HttpRequestBuilder fetchJobRequest = HttpRequest.builder()
+                        .uri(URI.create(this.baseUrl(runContext) + "/api/v1/jobs/get/"))
+                        .method("POST")
+                        .body(
+                            HttpRequest.JsonRequestBody.builder()
+                                .content(Map.of("id", jobIdRendered))
+                                .build()
+                        );
+
+                    HttpResponse<JobInfo> response = this.request(runContext, fetchJobRequest, JobInfo.class);
+
+                    if (response.getBody() != null) {
+                        JobInfo jobStatus = response.getBody();
+                        sendLog(logCursor, logForwarder, jobStatus, logStorage, structured, renderedLogSources);
 
-                    // Handle case of failed attempt, Airbyte started a new attempt
-                    if (jobStatus.getAttempts().size() > attemptCounter.get()) {
-                        logger.warn("Previous attempt failed, creating a new sync attempt ...");
-                        attemptCounter.getAndIncrement();
+                        // ended
+                        if (ENDED_JOB_STATUS.contains(jobStatus.getJob().getStatus())) {
+                            return jobStatus;
+                        }
+
+                        // Handle case of failed attempt, Airbyte started a new attempt
+                        if (jobStatus.getAttempts().size() > attemptCounter.get()) {
+                            logger.warn("Previous attempt failed, creating a new sync attempt ...");
+                            attemptCounter.getAndIncrement();
+                        }
+                    }
+                    return null;
+                }),
+                runContext.render(this.pollFrequency).as(Duration.class).orElseThrow(),
+                runContext.render(this.maxDuration).as(Duration.class).orElseThrow()
+            );
+        } catch (Exception e) {
+            waitFailure = e;
+            throw e;
+        } finally {
+            if (logStorage != null) {
+                try {
+                    attemptLogs = logStorage.close();
+                    logger.info("Attempt logs stored in {}", attemptLogs);
+                } catch (IOException e) {
+                    // never hide the failure of the wait behind the one of the storage
+                    if (waitFailure == null) {
+                        throw e;
                     }
+                    waitFailure.addSuppressed(e);
                 }
-                return null;
-            }),
-            runContext.render(this.pollFrequency).as(Duration.class).orElseThrow(),
-            runContext.render(this.maxDuration).as(Duration.class).orElseThrow()
-        );
+            }
+            logForwarder.flush();
+        }
 
         // failure message
-        finalJobStatus.getAttempts()
-            .stream()
-            .map(AttemptInfo::getAttempt)
-            .map(Attempt::getFailureSummary)
-            .filter(Objects::nonNull)
-            .forEach(attemptFailureSummary -> logger.warn("Failure with reason {}", attemptFailureSummary));
+        JobFailedException.failures(finalJobStatus)
+            .forEach(failure -> logger.warn("Failure with reason {}", failure));
 
-        // handle failed attempt
+        // handle failed attempt, the full job (logs included) goes to the internal storage instead of the exception
         if (!finalJobStatus.getJob().getStatus().equals(JobStatus.SUCCEEDED)) {
-            int attemptCount = finalJobStatus.getAttempts().size();
-            throw new Exception(
-                "Failed run with status '" + finalJobStatus.getJob().getStatus() +
-                    "' after " + attemptCount + " attempt(s) : " + finalJobStatus
-            );
+            throw JobFailedException.of(finalJobStatus, storeJobDetails(runContext, finalJobStatus));
         }
 
         // metrics
         runContext.metric(Counter.of("attempts.count", finalJobStatus.getAttempts().size()));
 
-        finalJobStatus.getAttempts()
+        Map<String, AttemptStats> streams = StreamStatistics.aggregate(finalJobStatus);
+        this.streamMetrics(
+            runContext,
+            streams,
+            runContext.render(this.streamMetrics).as(StreamMetrics.class).orElseThrow(),
+            Math.max(runContext.render(this.topStreams).as(Integer.class).orElseThrow(), 0)
+        );
+
+        List<StreamResult> streamResults = streams.entrySet()
             .stream()
-            .map(AttemptInfo::getAttempt)
-            .filter(attempt -> attempt.getStreamStats() != null)
-            .flatMap(attempt -> attempt.getStreamStats().stream())
-            .forEach(o ->
-            {
-                if (o.getStats().getRecordsCommitted() != null) {
-                    runContext.metric(Counter.of("records.committed", o.getStats().getRecordsCommitted(), "stream", o.getStreamName()));
-                }
-                if (o.getStats().getRecordsEmitted() != null) {
-                    runContext.metric(Counter.of("records.emitted", o.getStats().getRecordsEmitted(), "stream", o.getStreamName()));
-                }
-                if (o.getStats().getBytesEmitted() != null) {
-                    runContext.metric(Counter.of("bytes.emitted", o.getStats().getBytesEmitted(), "stream", o.getStreamName()));
-                }
-                if (o.getStats().getStateMessagesEmitted() != null) {
-                    runContext.metric(Counter.of("state.emitted", o.getStats().getStateMessagesEmitted(), "stream", o.getStreamName()));
-                }
-            });
+            .map(e -> StreamResult.of(e.getKey(), e.getValue()))
+            .toList();
 
         return Output.builder()
             .finalJobStatus(finalJobStatus.getJob().getStatus().toString())
+            .attemptLogs(attemptLogs)
+            .streams(streamResults)
+            .changedStreams(streamResults.stream().filter(StreamResult::getChanged).map(StreamResult::getName).toList())
             .build();
     }
 
-    private void sendLog(Logger logger, JobInfo job) {
+    private void streamMetrics(RunContext runContext, Map<String, AttemptStats> streams, StreamMetrics mode, int topStreams) {
+        streamCounters(runContext, ".total", StreamStatistics.total(streams.values()));
+
+        if (mode == StreamMetrics.TOTALS) {
+            return;
+        }
+
+        if (mode == StreamMetrics.TOP_N && streams.size() > topStreams) {
+            List<Map.Entry<String, AttemptStats>> sorted = streams.entrySet()
+                .stream()
+                .sorted(Comparator.comparing((Map.Entry<String, AttemptStats> e) -> Optional.ofNullable(e.getValue().getBytesEmitted()).orElse(0L)).reversed())
+                .toList();
+
+            sorted.subList(0, topStreams).forEach(e -> streamCounters(runContext, "", e.getValue(), "stream", e.getKey()));
+            streamCounters(
+                runContext,
+                "",
+                StreamStatistics.total(sorted.subList(topStreams, sorted.size()).stream().map(Map.Entry::getValue).toList()),
+                "stream", "other"
+            );
+            return;
+        }
+
+        streams.forEach((stream, stats) -> streamCounters(runContext, "", stats, "stream", stream));
+    }
+
+    private static void streamCounters(RunContext runContext, String suffix, AttemptStats stats, String... tags) {
+        if (stats.getRecordsCommitted() != null) {
+            runContext.metric(Counter.of("records.committed" + suffix, stats.getRecordsCommitted(), tags));
+        }
+        if (stats.getRecordsEmitted() != null) {
+            runContext.metric(Counter.of("records.emitted" + suffix, stats.getRecordsEmitted(), tags));
+        }
+        if (stats.getBytesEmitted() != null) {
+            runContext.metric(Counter.of("bytes.emitted" + suffix, stats.getBytesEmitted(), tags));
+        }
+        if (stats.getStateMessagesEmitted() != null) {
+            runContext.metric(Counter.of("state.emitted" + suffix, stats.getStateMessagesEmitted(), tags));
+        }
+    }
+
+    private URI storeJobDetails(RunContext runContext, JobInfo jobInfo) {
+        try {
+            File file = runContext.workingDir().createTempFile(".json").toFile();
+            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+                JacksonMapper.ofJson().writeValue(outputStream, jobInfo);
+            }
+
+            return runContext.storage().putFile(file);
+        } catch (IOException e) {
+            runContext.logger().warn("Unable to store the details of job {}", jobInfo.getJob().getId(), e);
+            return null;
+        }
+    }
+
+    private void sendLog(LogCursor logCursor, LogForwarder logForwarder, JobInfo job, AttemptLogStorage logStorage, boolean structured, List<String> logSources) throws IOException {
         int index = 0;
 
         for (AttemptInfo attempt : job.getAttempts()) {
-            if (!loggedLine.containsKey(index) || attempt.getLogs().getLogLines().size() > loggedLine.get(index)) {
-                attempt.getLogs()
-                    .getLogLines()
-                    .subList(!loggedLine.containsKey(index) ? 0 : loggedLine.get(index) + 1, attempt.getLogs().getLogLines().size())
-                    .forEach(msg ->
-                    {
-                        if (msg.contains("ERROR[")) {
-                            logger.error(msg);
-                        } else if (msg.contains("DEBUG[")) {
-                            logger.debug(msg);
-                        } else if (msg.contains("TRACE[")) {
-                            logger.trace(msg);
-                        } else {
-                            logger.info(msg);
-                        }
-                    });
+            Log logs = attempt.getLogs();
 
-                loggedLine.put(index, attempt.getLogs().getLogLines().size());
+            if (logs != null && structured && logs.getEvents() != null && !logs.getEvents().isEmpty()) {
+                for (Event event : logCursor.nextEvents(index, logs.getEvents())) {
+                    if (logSources.isEmpty() || logSources.contains(event.getLogSource())) {
+                        String line = Instant.ofEpochMilli(event.getTimestamp() == null ? 0 : event.getTimestamp()) + " " +
+                            (event.getLogSource() == null ? "" : event.getLogSource() + " > ") + event.getMessage();
+                        sendLine(index, line, LogForwarder.level(event), logForwarder, logStorage);
+                    }
+                }
+            } else if (logs != null && logs.getLogLines() != null) {
+                for (String line : logCursor.nextLines(index, logs.getLogLines())) {
+                    sendLine(index, line, LogForwarder.level(line), logForwarder, logStorage);
+                }
             }
+
             index++;
         }
+
+        logForwarder.flush();
+    }
+
+    private static void sendLine(int attempt, String line, Level level, LogForwarder logForwarder, AttemptLogStorage logStorage) throws IOException {
+        if (logStorage != null) {
+            logStorage.write(attempt, line, level);
+        } else {
+            logForwarder.forward(line, level);
+        }
     }
 
     @Builder
@@ -249,5 +441,54 @@ public class CheckStatus extends AbstractAirbyteConnection implements RunnableTa
             description = "Terminal Airbyte job status returned by the task"
         )
         private final String finalJobStatus;
+
+        @Schema(
+            title = "Attempt logs",
+            description = "Internal storage URIs of the gzip-compressed logs of each attempt, in attempt order. Only set when `logDestination` is `STORAGE`"
+        )
+        private final List<URI> attemptLogs;
+
+        @Schema(
+            title = "Streams",
+            description = "Statistics of each synced stream, summed across attempts"
+        )
+        private final List<StreamResult> streams;
+
+        @Schema(
+            title = "Changed streams",
+            description = "Names of the streams that received new records, to skip downstream processing of the unchanged ones"
+        )
+        private final List<String> changedStreams;
+    }
+
+    @Value
+    @Builder
+    public static class StreamResult {
+        @Schema(title = "Stream name")
+        String name;
+
+        @Schema(title = "Records committed", description = "Number of records committed to the destination")
+        Long recordsCommitted;
+
+        @Schema(title = "Records emitted", description = "Number of records emitted by the source")
+        Long recordsEmitted;
+
+        @Schema(title = "Bytes emitted", description = "Number of bytes emitted by the source")
+        Long bytesEmitted;
+
+        @Schema(title = "Changed", description = "Whether the stream received new records")
+        Boolean changed;
+
+        static StreamResult of(String name, AttemptStats stats) {
+            Long records = stats.getRecordsCommitted() != null ? stats.getRecordsCommitted() : stats.getRecordsEmitted();
+
+            return StreamResult.builder()
+                .name(name)
+                .recordsCommitted(stats.getRecordsCommitted())
+                .recordsEmitted(stats.getRecordsEmitted())
+                .bytesEmitted(stats.getBytesEmitted())
+                .changed(records != null && records > 0)
+                .build();
+        }
     }
 }
@@ -0,0 +1,17 @@
+package io.kestra.plugin.airbyte.connections;
+
+/**
+ * How a task learns that the Airbyte job it started has ended.
+ */
+public enum CompletionMode {
+    /**
+     * The task polls the job until it ends, see {@code wait}.
+     */
+    POLL,
+
+    /**
+     * The task registers the job in the namespace KV store and ends right after the job is created, the end of the job
+     * is then resolved by {@link ResolvePendingJobs} from an Airbyte webhook notification or a periodic sweep.
+     */
+    NOTIFICATION
+}
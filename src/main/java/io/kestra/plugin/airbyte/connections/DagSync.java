@@ -0,0 +1,383 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.plugin.airbyte.AbstractAirbyteConnection;
+import io.kestra.plugin.airbyte.models.JobInfo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Sync a dependency graph of Airbyte connections",
+    description = "Syncs a DAG of connections: each connection starts as soon as all the connections it depends on have succeeded, with at most `parallelism` jobs running at once, and is skipped when one of them does not succeed. All the running jobs are polled from a single loop. Among the ready connections, the ones on the longest remaining chain start first, using the job durations kept in the namespace KV store"
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Sync the orders and customers connections, then the marts connection once both succeeded",
+            code = """
+                id: airbyte_dag
+                namespace: company.team
+
+                tasks:
+                  - id: sync
+                    type: io.kestra.plugin.airbyte.connections.DagSync
+                    url: http://localhost:8080
+                    parallelism: 5
+                    nodes:
+                      - name: orders
+                        connectionId: e3b1ce92-547c-436f-b1e8-23b6936c12cd
+                      - name: customers
+                        connectionId: 0f5c1a28-1a4b-4d5e-9a8c-2c1b9f3c7e11
+                      - name: marts
+                        connectionId: 7a9d2e44-5b6c-4f1e-8d3a-9e2b1c0f4a55
+                        dependsOn:
+                          - orders
+                          - customers
+                """
+        )
+    }
+)
+public class DagSync extends AbstractAirbyteConnection implements RunnableTask<DagSync.Output> {
+    @Schema(
+        title = "Nodes",
+        description = "Connections of the graph. `dependsOn` lists the names or connection IDs of the nodes that must succeed first"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<List<Node>> nodes;
+
+    @Schema(
+        title = "Parallelism",
+        description = "Maximum number of sync jobs running at the same time. Defaults to 10"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> parallelism = Property.ofValue(10);
+
+    @Schema(
+        title = "Poll frequency",
+        description = "Interval between two status checks of all running jobs. Defaults to 5 seconds"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> pollFrequency = Property.ofValue(Duration.ofSeconds(5));
+
+    @Schema(
+        title = "Maximum duration",
+        description = "Maximum total time to wait for the whole graph. Defaults to 6 hours"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> maxDuration = Property.ofValue(Duration.ofHours(6));
+
+    @Schema(
+        title = "Fail on job failure",
+        description = "If `true`, fail the task once the graph ended when at least one node did not succeed or was skipped. Defaults to `true`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> failOnJobFailure = Property.ofValue(true);
+
+    @Override
+    public DagSync.Output run(RunContext runContext) throws Exception {
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        List<BatchRunner.Item> items = items(runContext.render(this.nodes).asList(Node.class));
+
+        List<BatchRunner.Item> expected = new ArrayList<>(items.size());
+        for (BatchRunner.Item item : items) {
+            expected.add(item.toBuilder()
+                .expectedDuration(BatchScheduler.expected(kvStore, item.getConnectionId()).orElse(null))
+                .build()
+            );
+        }
+
+        BatchRunner runner = new BatchRunner(
+            this.batchClient(runContext),
+            runContext.logger(),
+            runContext.render(this.parallelism).as(Integer.class).orElseThrow(),
+            runContext.render(this.pollFrequency).as(Duration.class).orElseThrow(),
+            runContext.render(this.maxDuration).as(Duration.class).orElseThrow()
+        );
+
+        runContext.logger().info("Syncing a graph of {} connection(s)", items.size());
+        File file = runContext.workingDir().createTempFile(".ion").toFile();
+        Instant started = Instant.now();
+        List<BatchRunner.Summary> results = null;
+        TimeoutException timeout = null;
+
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+            results = runner.run(BatchScheduler.criticalPathOrder(expected), summary -> {
+                if (summary.succeeded() && summary.getDurationMs() != null) {
+                    BatchScheduler.record(kvStore, summary.getConnectionId(), Duration.ofMillis(summary.getDurationMs()));
+                }
+
+                FileSerde.write(outputStream, NodeResult.of(summary));
+                outputStream.flush();
+            });
+        } catch (TimeoutException e) {
+            timeout = e;
+        }
+
+        Duration actualMakespan = Duration.between(started, Instant.now());
+
+        // the results of the nodes that ended are kept on timeout, with a row per job still running
+        if (timeout != null) {
+            URI uri = runContext.storage().putFile(file);
+            throw new TimeoutException(timeout.getMessage() + ", partial summary in " + uri);
+        }
+
+        long succeeded = results.stream().filter(BatchRunner.Summary::succeeded).count();
+        long skipped = results.stream().filter(summary -> BatchRunner.SKIPPED.equals(summary.getStatus())).count();
+        long failed = results.size() - succeeded - skipped;
+
+        if (succeeded < results.size() && runContext.render(this.failOnJobFailure).as(Boolean.class).orElseThrow()) {
+            throw new IllegalStateException(failed + " node(s) did not succeed and " + skipped + " were skipped out of " + results.size() + ": " +
+                results.stream().filter(summary -> !summary.succeeded()).map(summary -> summary.getName() + " (" + summary.getStatus() + ")").toList()
+            );
+        }
+
+        return Output.builder()
+            .nodes(results.size())
+            .succeeded((int) succeeded)
+            .failed((int) failed)
+            .skipped((int) skipped)
+            .actualMakespan(actualMakespan)
+            .results(results.stream().map(NodeResult::of).toList())
+            .build();
+    }
+
+    /**
+     * Resolve the dependencies to connection IDs and reject duplicated nodes, unknown dependencies and cycles.
+     */
+    static List<BatchRunner.Item> items(List<Node> nodes) {
+        Map<String, String> connectionIdByReference = new HashMap<>();
+        for (Node node : nodes) {
+            if (node.getConnectionId() == null) {
+                throw new IllegalArgumentException("Missing connectionId for node " + node.getName());
+            }
+            if (connectionIdByReference.put(node.getConnectionId(), node.getConnectionId()) != null) {
+                throw new IllegalArgumentException("Connection " + node.getConnectionId() + " is defined more than once");
+            }
+        }
+        for (Node node : nodes) {
+            String previous = node.getName() == null ? null : connectionIdByReference.putIfAbsent(node.getName(), node.getConnectionId());
+            if (previous != null && !previous.equals(node.getConnectionId())) {
+                throw new IllegalArgumentException("Node name " + node.getName() + " is defined more than once");
+            }
+        }
+
+        Map<String, BatchRunner.Item> items = new LinkedHashMap<>();
+        for (Node node : nodes) {
+            List<String> dependsOn = new ArrayList<>();
+            for (String reference : node.getDependsOn() == null ? List.<String>of() : node.getDependsOn()) {
+                String dependency = connectionIdByReference.get(reference);
+                if (dependency == null) {
+                    throw new IllegalArgumentException("Node " + label(node) + " depends on unknown node " + reference);
+                }
+                dependsOn.add(dependency);
+            }
+
+            items.put(node.getConnectionId(), BatchRunner.Item.builder()
+                .connectionId(node.getConnectionId())
+                .name(label(node))
+                .dependsOn(List.copyOf(dependsOn))
+                .build()
+            );
+        }
+
+        // Kahn's algorithm, what remains is on a cycle
+        Map<String, Integer> remaining = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        Deque<String> ready = new ArrayDeque<>();
+        for (BatchRunner.Item item : items.values()) {
+            remaining.put(item.getConnectionId(), item.getDependsOn().size());
+            item.getDependsOn().forEach(dependency -> dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(item.getConnectionId()));
+            if (item.getDependsOn().isEmpty()) {
+                ready.add(item.getConnectionId());
+            }
+        }
+
+        while (!ready.isEmpty()) {
+            String connectionId = ready.poll();
+            remaining.remove(connectionId);
+            for (String dependent : dependents.getOrDefault(connectionId, List.of())) {
+                if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (!remaining.isEmpty()) {
+            throw new IllegalArgumentException("Dependency cycle between nodes " + remaining.keySet().stream().map(id -> items.get(id).getName()).sorted().toList());
+        }
+
+        return List.copyOf(items.values());
+    }
+
+    private static String label(Node node) {
+        return node.getName() != null ? node.getName() : node.getConnectionId();
+    }
+
+    private BatchRunner.Client batchClient(RunContext runContext) {
+        return new BatchRunner.Client() {
+            @Override
+            public Long start(String connectionId) throws Exception {
+                try {
+                    JobInfo jobInfo = DagSync.this.post(runContext, "/api/v1/connections/sync", Map.of("connectionId", connectionId), JobInfo.class);
+                    return jobInfo.getJob().getId();
+                } catch (SyncAlreadyRunningException e) {
+                    return null;
+                }
+            }
+
+            @Override
+            public JobInfo get(long jobId) throws Exception {
+                return DagSync.this.post(runContext, "/api/v1/jobs/get_without_logs", Map.of("id", jobId), JobInfo.class);
+            }
+        };
+    }
+
+    @Value
+    @Builder
+    @Jacksonized
+    public static class Node {
+        @Schema(title = "Connection ID")
+        @NotNull
+        String connectionId;
+
+        @Schema(
+            title = "Name",
+            description = "Name used in `dependsOn`, the logs and the results. Defaults to the connection ID"
+        )
+        String name;
+
+        @Schema(
+            title = "Depends on",
+            description = "Names or connection IDs of the nodes that must succeed before this one starts"
+        )
+        List<String> dependsOn;
+    }
+
+    @Value
+    @Builder
+    public static class NodeResult {
+        @Schema(title = "Connection ID")
+        String connectionId;
+
+        @Schema(title = "Node name")
+        String name;
+
+        @Schema(title = "Job ID", description = "Empty when the sync was not started")
+        Long jobId;
+
+        @Schema(
+            title = "Status",
+            description = "Final status of the job, `skipped` when a node it depends on did not succeed, or `already_running`"
+        )
+        String status;
+
+        @Schema(title = "Start date")
+        Instant startedAt;
+
+        @Schema(title = "End date")
+        Instant endedAt;
+
+        @Schema(title = "Duration in milliseconds")
+        Long durationMs;
+
+        @Schema(title = "Attempts")
+        Integer attempts;
+
+        @Schema(title = "Records committed", description = "Records committed across all streams and attempts")
+        Long recordsCommitted;
+
+        @Schema(title = "Bytes emitted", description = "Bytes emitted across all streams and attempts")
+        Long bytesEmitted;
+
+        @Schema(title = "Error", description = "Why the sync could not be started or was skipped")
+        String error;
+
+        static NodeResult of(BatchRunner.Summary summary) {
+            return NodeResult.builder()
+                .connectionId(summary.getConnectionId())
+                .name(summary.getName())
+                .jobId(summary.getJobId())
+                .status(summary.getStatus())
+                .startedAt(summary.getStartedAt())
+                .endedAt(summary.getEndedAt())
+                .durationMs(summary.getDurationMs())
+                .attempts(summary.getAttempts())
+                .recordsCommitted(summary.getRecordsCommitted())
+                .bytesEmitted(summary.getBytesEmitted())
+                .error(summary.getError())
+                .build();
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Nodes")
+        private final Integer nodes;
+
+        @Schema(title = "Succeeded syncs")
+        private final Integer succeeded;
+
+        @Schema(
+            title = "Failed syncs",
+            description = "Number of syncs that failed, were cancelled, could not be started or were already running"
+        )
+        private final Integer failed;
+
+        @Schema(
+            title = "Skipped nodes",
+            description = "Number of nodes not started because a node they depend on did not succeed"
+        )
+        private final Integer skipped;
+
+        @Schema(
+            title = "Actual makespan",
+            description = "Time from the first sync start to the last sync end"
+        )
+        private final Duration actualMakespan;
+
+        @Schema(
+            title = "Results",
+            description = "One result per node, in the order they ended: `connectionId`, `name`, `jobId`, `status`, `startedAt`, `endedAt`, `durationMs`, `attempts`, `recordsCommitted`, `bytesEmitted` and `error`"
+        )
+        private final List<NodeResult> results;
+    }
+}
@@ -0,0 +1,305 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.airbyte.AbstractAirbyteConnection;
+import io.kestra.plugin.airbyte.models.Attempt;
+import io.kestra.plugin.airbyte.models.AttemptStats;
+import io.kestra.plugin.airbyte.models.AttemptStreamStats;
+import io.kestra.plugin.airbyte.models.Job;
+import io.kestra.plugin.airbyte.models.JobList;
+import io.kestra.plugin.airbyte.models.JobStatus;
+import io.kestra.plugin.airbyte.models.JobWithAttempts;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Export the job history of Airbyte connections",
+    description = "Pages through the jobs of each connection created after `since` and writes one row per ended job, attempt and stream with the attempt stream stats to an ION file in internal storage. Rows are written page by page, so memory stays flat whatever the length of the history. Use the `cursor` output as the next `since` to export incrementally; jobs still running are left for a later run, so a job that ended after them can be exported twice and rows should be deduplicated on job, attempt and stream"
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Export the sync history incrementally, keeping the cursor in the KV store",
+            code = """
+                id: airbyte_history
+                namespace: company.team
+
+                tasks:
+                  - id: export
+                    type: io.kestra.plugin.airbyte.connections.ExportJobHistory
+                    url: http://localhost:8080
+                    connectionIds:
+                      - e3b1ce92-547c-436f-b1e8-23b6936c12cd
+                      - 0f5c1a28-1a4b-4d5e-9a8c-2c1b9f3c7e11
+                    since: "{{ kv('airbyte_history_cursor', errorOnMissing=false) ?? '2024-01-01T00:00:00Z' }}"
+
+                  - id: cursor
+                    type: io.kestra.plugin.core.kv.Set
+                    key: airbyte_history_cursor
+                    value: "{{ outputs.export.cursor }}"
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "jobs",
+            type = Counter.TYPE,
+            unit = "job",
+            description = "Number of ended jobs exported"
+        ),
+        @Metric(
+            name = "rows",
+            type = Counter.TYPE,
+            unit = "row",
+            description = "Number of rows written to the output file, one per job, attempt and stream"
+        )
+    }
+)
+public class ExportJobHistory extends AbstractAirbyteConnection implements RunnableTask<ExportJobHistory.Output> {
+    private static final List<JobStatus> ENDED_JOB_STATUS = List.of(
+        JobStatus.FAILED,
+        JobStatus.CANCELLED,
+        JobStatus.SUCCEEDED
+    );
+
+    @Schema(
+        title = "Connection IDs",
+        description = "Airbyte connection IDs whose job history is exported"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<List<String>> connectionIds;
+
+    @Schema(
+        title = "Since",
+        description = "Only export the jobs created strictly after this date. By default, the whole history is exported"
+    )
+    @PluginProperty(group = "main")
+    private Property<ZonedDateTime> since;
+
+    @Schema(
+        title = "Job types",
+        description = "Airbyte job config types to export. Defaults to `sync`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<List<String>> configTypes = Property.ofValue(List.of("sync"));
+
+    @Schema(
+        title = "Page size",
+        description = "Number of jobs requested per page. Defaults to 100"
+    )
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "advanced")
+    private Property<Integer> pageSize = Property.ofValue(100);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        List<String> connectionIds = runContext.render(this.connectionIds).asList(String.class);
+        Instant since = runContext.render(this.since).as(ZonedDateTime.class).map(ZonedDateTime::toInstant).orElse(null);
+        List<String> configTypes = runContext.render(this.configTypes).asList(String.class);
+        int pageSize = runContext.render(this.pageSize).as(Integer.class).orElseThrow();
+
+        long jobs = 0;
+        long rows = 0;
+        Instant cursor = since;
+        Instant oldestRunning = null;
+        File file = runContext.workingDir().createTempFile(".ion").toFile();
+
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+            for (String connectionId : connectionIds) {
+                int rowOffset = 0;
+
+                // jobs are listed newest first, the listing stops at the first job not after `since`
+                page:
+                while (true) {
+                    Map<String, Object> body = new HashMap<>();
+                    body.put("configTypes", configTypes);
+                    body.put("configId", connectionId);
+                    body.put("pagination", Map.of("pageSize", pageSize, "rowOffset", rowOffset));
+
+                    JobList jobList = this.post(runContext, "/api/v1/jobs/list", body, JobList.class);
+                    List<JobWithAttempts> page = jobList.getJobs() == null ? List.of() : jobList.getJobs();
+
+                    for (JobWithAttempts jobWithAttempts : page) {
+                        Job job = jobWithAttempts.getJob();
+                        if (since != null && job.getCreatedAt() != null && !job.getCreatedAt().isAfter(since)) {
+                            break page;
+                        }
+
+                        // exported on a later run, once its stats are final
+                        if (!ENDED_JOB_STATUS.contains(job.getStatus())) {
+                            if (job.getCreatedAt() != null && (oldestRunning == null || job.getCreatedAt().isBefore(oldestRunning))) {
+                                oldestRunning = job.getCreatedAt();
+                            }
+                            continue;
+                        }
+
+                        jobs++;
+                        if (job.getCreatedAt() != null && (cursor == null || job.getCreatedAt().isAfter(cursor))) {
+                            cursor = job.getCreatedAt();
+                        }
+
+                        for (Row row : Row.of(connectionId, jobWithAttempts)) {
+                            FileSerde.write(outputStream, row);
+                            rows++;
+                        }
+                    }
+
+                    rowOffset += page.size();
+                    if (page.size() < pageSize || (jobList.getTotalJobCount() != null && rowOffset >= jobList.getTotalJobCount())) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        // never move the cursor past a job that is still running
+        if (oldestRunning != null && cursor != null && !cursor.isBefore(oldestRunning)) {
+            cursor = oldestRunning.minusNanos(1);
+        }
+
+        runContext.metric(Counter.of("jobs", jobs));
+        runContext.metric(Counter.of("rows", rows));
+        runContext.logger().info("Exported {} row(s) from {} job(s) of {} connection(s)", rows, jobs, connectionIds.size());
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(file))
+            .jobs(jobs)
+            .rows(rows)
+            .cursor(cursor)
+            .build();
+    }
+
+    @Value
+    @Builder
+    public static class Row {
+        String connectionId;
+        Long jobId;
+        String configType;
+        String jobStatus;
+        Instant jobCreatedAt;
+        Instant jobUpdatedAt;
+        Integer attempt;
+        String attemptStatus;
+        Instant attemptCreatedAt;
+        Instant attemptEndedAt;
+        Long attemptDurationMs;
+        String streamName;
+        Long recordsEmitted;
+        Long recordsCommitted;
+        Long bytesEmitted;
+        Long stateMessagesEmitted;
+
+        /**
+         * One row per attempt and stream, or a single row with the attempt totals for an attempt without stream
+         * stats, so failed attempts are kept.
+         */
+        static List<Row> of(String connectionId, JobWithAttempts jobWithAttempts) {
+            Job job = jobWithAttempts.getJob();
+            List<Attempt> attempts = jobWithAttempts.getAttempts() == null ? List.of() : jobWithAttempts.getAttempts();
+            List<Row> rows = new ArrayList<>();
+
+            for (int index = 0; index < attempts.size(); index++) {
+                Attempt attempt = attempts.get(index);
+                Instant endedAt = attempt.getEndedAt() != null ? attempt.getEndedAt() : attempt.getUpdatedAt();
+
+                RowBuilder base = Row.builder()
+                    .connectionId(connectionId)
+                    .jobId(job.getId())
+                    .configType(job.getConfigType() == null ? null : job.getConfigType().toString())
+                    .jobStatus(job.getStatus() == null ? null : job.getStatus().toString())
+                    .jobCreatedAt(job.getCreatedAt())
+                    .jobUpdatedAt(job.getUpdatedAt())
+                    .attempt(index)
+                    .attemptStatus(attempt.getStatus() == null ? null : attempt.getStatus().toString())
+                    .attemptCreatedAt(attempt.getCreatedAt())
+                    .attemptEndedAt(attempt.getEndedAt())
+                    .attemptDurationMs(attempt.getCreatedAt() == null || endedAt == null ? null : Duration.between(attempt.getCreatedAt(), endedAt).toMillis());
+
+                if (attempt.getStreamStats() == null || attempt.getStreamStats().isEmpty()) {
+                    rows.add(stats(base, attempt.getTotalStats()).build());
+                    continue;
+                }
+
+                for (AttemptStreamStats streamStats : attempt.getStreamStats()) {
+                    rows.add(stats(base, streamStats.getStats()).streamName(streamStats.getStreamName()).build());
+                }
+            }
+
+            return rows;
+        }
+
+        private static RowBuilder stats(RowBuilder builder, AttemptStats stats) {
+            if (stats == null) {
+                return builder.recordsEmitted(null).recordsCommitted(null).bytesEmitted(null).stateMessagesEmitted(null);
+            }
+
+            return builder
+                .recordsEmitted(stats.getRecordsEmitted())
+                .recordsCommitted(stats.getRecordsCommitted())
+                .bytesEmitted(stats.getBytesEmitted())
+                .stateMessagesEmitted(stats.getStateMessagesEmitted());
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "History file URI",
+            description = "Internal storage URI of the ION file with one row per job, attempt and stream"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Job count",
+            description = "Number of jobs exported"
+        )
+        private final Long jobs;
+
+        @Schema(
+            title = "Row count",
+            description = "Number of rows written"
+        )
+        private final Long rows;
+
+        @Schema(
+            title = "Cursor",
+            description = "Creation date of the newest exported job, kept before the oldest running job, or `since` when no job was exported. Pass it as the next `since` to export incrementally"
+        )
+        private final Instant cursor;
+    }
+}
@@ -0,0 +1,217 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.airbyte.AbstractAirbyteConnection;
+import io.kestra.plugin.airbyte.models.ConnectionState;
+import io.kestra.plugin.airbyte.models.StreamDescriptor;
+import io.kestra.plugin.airbyte.models.StreamState;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Get the state of an Airbyte connection",
+    description = "Reads the incremental state saved by Airbyte for a connection and outputs the cursor of each stream, so downstream transformations can only process the new window. Set `store: true` to also write the full state to internal storage when it is large"
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Sync a connection, then read the cursor of each stream",
+            code = """
+                id: airbyte_state
+                namespace: company.team
+
+                tasks:
+                  - id: sync
+                    type: io.kestra.plugin.airbyte.connections.Sync
+                    url: http://localhost:8080
+                    connectionId: e3b1ce92-547c-436f-b1e8-23b6936c12cd
+
+                  - id: state
+                    type: io.kestra.plugin.airbyte.connections.GetState
+                    url: http://localhost:8080
+                    connectionId: e3b1ce92-547c-436f-b1e8-23b6936c12cd
+
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "First stream synced up to {{ outputs.state.streams[0].cursor }}"
+                """
+        )
+    }
+)
+public class GetState extends AbstractAirbyteConnection implements RunnableTask<GetState.Output> {
+    @Schema(
+        title = "Connection ID",
+        description = "Airbyte connection ID whose state is read"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> connectionId;
+
+    @Schema(
+        title = "Store the full state",
+        description = "Write the full connection state as JSON to internal storage (`uri` output). The compact per-stream cursors are always output"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> store = Property.ofValue(false);
+
+    @Override
+    public GetState.Output run(RunContext runContext) throws Exception {
+        String connectionId = runContext.render(this.connectionId).as(String.class).orElseThrow();
+        this.route(runContext, connectionId);
+
+        HttpRequest.HttpRequestBuilder stateRequest = HttpRequest.builder()
+            .uri(URI.create(this.baseUrl(runContext) + "/api/v1/state/get"))
+            .method("POST")
+            .body(
+                HttpRequest.JsonRequestBody.builder()
+                    .content(Map.of("connectionId", connectionId))
+                    .build()
+            );
+
+        ConnectionState state = Optional.ofNullable(this.request(runContext, stateRequest, ConnectionState.class).getBody())
+            .orElseThrow(() -> new IllegalStateException("Missing body on state of connection " + connectionId));
+
+        List<StreamState> streamStates = new ArrayList<>();
+        if (state.getStreamState() != null) {
+            streamStates.addAll(state.getStreamState());
+        }
+        if (state.getGlobalState() != null && state.getGlobalState().getStreamStates() != null) {
+            streamStates.addAll(state.getGlobalState().getStreamStates());
+        }
+
+        List<StreamCursor> cursors = streamStates.stream()
+            .map(streamState -> StreamCursor.of(streamState.getStreamDescriptor(), streamState.getStreamState()))
+            .toList();
+
+        runContext.logger().info("Connection {} has a '{}' state with {} stream(s)", connectionId, state.getStateType(), cursors.size());
+
+        boolean store = runContext.render(this.store).as(Boolean.class).orElseThrow();
+
+        return Output.builder()
+            .stateType(state.getStateType() == null ? null : state.getStateType().toString())
+            .streams(cursors)
+            .sharedState(store || state.getGlobalState() == null ? null : state.getGlobalState().getSharedState())
+            .uri(store ? storeState(runContext, state) : null)
+            .build();
+    }
+
+    private static URI storeState(RunContext runContext, ConnectionState state) throws Exception {
+        File file = runContext.workingDir().createTempFile(".json").toFile();
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+            JacksonMapper.ofJson().writeValue(outputStream, state);
+        }
+
+        return runContext.storage().putFile(file);
+    }
+
+    @Value
+    @Builder
+    public static class StreamCursor {
+        @Schema(title = "Stream name")
+        String name;
+
+        @Schema(title = "Stream namespace")
+        String namespace;
+
+        @Schema(
+            title = "Cursor field",
+            description = "Path of the field used as cursor, when Airbyte saved it in the state"
+        )
+        List<String> cursorField;
+
+        @Schema(
+            title = "Cursor value",
+            description = "Latest cursor value synced for the stream, null when the state has no single cursor (e.g. CDC or composite states)"
+        )
+        Object cursor;
+
+        /**
+         * Database sources save {@code {"cursor": ..., "cursor_field": [...]}}, most API sources a single
+         * {@code {"<field>": <value>}} entry; anything else has no single cursor.
+         */
+        static StreamCursor of(StreamDescriptor descriptor, Object state) {
+            StreamCursorBuilder builder = StreamCursor.builder()
+                .name(descriptor == null ? null : descriptor.getName())
+                .namespace(descriptor == null ? null : descriptor.getNamespace());
+
+            if (!(state instanceof Map<?, ?> map)) {
+                return builder.build();
+            }
+
+            if (map.containsKey("cursor")) {
+                if (map.get("cursor_field") instanceof Collection<?> fields) {
+                    builder.cursorField(fields.stream().map(String::valueOf).toList());
+                }
+                return builder.cursor(map.get("cursor")).build();
+            }
+
+            if (map.size() == 1) {
+                Map.Entry<?, ?> entry = map.entrySet().iterator().next();
+                if (!(entry.getValue() instanceof Map || entry.getValue() instanceof Collection)) {
+                    return builder
+                        .cursorField(List.of(String.valueOf(entry.getKey())))
+                        .cursor(entry.getValue())
+                        .build();
+                }
+            }
+
+            return builder.build();
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "State type",
+            description = "Type of the connection state: `stream`, `global`, `legacy` or `not_set`"
+        )
+        private final String stateType;
+
+        @Schema(
+            title = "Streams",
+            description = "Cursor of each stream. Empty for `legacy` and `not_set` states"
+        )
+        private final List<StreamCursor> streams;
+
+        @Schema(
+            title = "Shared state",
+            description = "State shared by all streams of a `global` state, such as a CDC log position. Only set when `store` is disabled"
+        )
+        private final Object sharedState;
+
+        @Schema(
+            title = "State file",
+            description = "Internal storage URI of the full connection state as JSON. Only set when `store` is enabled"
+        )
+        private final URI uri;
+    }
+}
@@ -0,0 +1,116 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.kestra.plugin.airbyte.models.AttemptFailureOrigin;
+import io.kestra.plugin.airbyte.models.AttemptFailureReason;
+import io.kestra.plugin.airbyte.models.AttemptFailureType;
+import io.kestra.plugin.airbyte.models.AttemptInfo;
+import io.kestra.plugin.airbyte.models.JobInfo;
+import io.kestra.plugin.airbyte.models.JobStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Airbyte job that ended without succeeding. The message only carries a size-capped summary of the attempt failures;
+ * the full job, logs included, is stored in internal storage at {@link #getDetails()}.
+ */
+@Getter
+public class JobFailedException extends Exception {
+    static final int MAX_FAILURE_MESSAGE_LENGTH = 500;
+    static final int MAX_FAILURES = 10;
+
+    private final Long jobId;
+    private final JobStatus status;
+    private final int attemptCount;
+    private final List<AttemptFailure> failures;
+    private final URI details;
+
+    private JobFailedException(Long jobId, JobStatus status, int attemptCount, List<AttemptFailure> failures, int omittedFailures, URI details) {
+        super(message(status, attemptCount, failures, omittedFailures, details));
+        this.jobId = jobId;
+        this.status = status;
+        this.attemptCount = attemptCount;
+        this.failures = failures;
+        this.details = details;
+    }
+
+    public static JobFailedException of(JobInfo jobInfo, URI details) {
+        List<AttemptFailure> failures = failures(jobInfo);
+
+        return new JobFailedException(
+            jobInfo.getJob().getId(),
+            jobInfo.getJob().getStatus(),
+            jobInfo.getAttempts().size(),
+            failures.size() > MAX_FAILURES ? List.copyOf(failures.subList(0, MAX_FAILURES)) : failures,
+            Math.max(0, failures.size() - MAX_FAILURES),
+            details
+        );
+    }
+
+    /**
+     * Failure reasons of every attempt of a job, with their message truncated.
+     */
+    public static List<AttemptFailure> failures(JobInfo jobInfo) {
+        List<AttemptFailure> failures = new ArrayList<>();
+        int attemptIndex = 0;
+
+        for (AttemptInfo attempt : jobInfo.getAttempts()) {
+            if (attempt.getAttempt() != null && attempt.getAttempt().getFailureSummary() != null && attempt.getAttempt().getFailureSummary().getFailures() != null) {
+                for (AttemptFailureReason reason : attempt.getAttempt().getFailureSummary().getFailures()) {
+                    failures.add(AttemptFailure.builder()
+                        .attempt(attemptIndex)
+                        .origin(reason.getFailureOrigin())
+                        .type(reason.getFailureType())
+                        .message(truncate(reason.getExternalMessage() != null ? reason.getExternalMessage() : reason.getInternalMessage()))
+                        .build()
+                    );
+                }
+            }
+            attemptIndex++;
+        }
+
+        return failures;
+    }
+
+    private static String message(JobStatus status, int attemptCount, List<AttemptFailure> failures, int omittedFailures, URI details) {
+        StringBuilder message = new StringBuilder("Failed run with status '" + status + "' after " + attemptCount + " attempt(s)");
+        if (details != null) {
+            message.append(", full job details in ").append(details);
+        }
+
+        failures.forEach(failure -> message.append("\n - ").append(failure));
+
+        if (omittedFailures > 0) {
+            message.append("\n - ... and ").append(omittedFailures).append(" more failure(s)");
+        }
+
+        return message.toString();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_FAILURE_MESSAGE_LENGTH) {
+            return message;
+        }
+
+        return message.substring(0, MAX_FAILURE_MESSAGE_LENGTH) + "... (" + (message.length() - MAX_FAILURE_MESSAGE_LENGTH) + " more characters)";
+    }
+
+    @Value
+    @Builder
+    public static class AttemptFailure {
+        int attempt;
+        AttemptFailureOrigin origin;
+        AttemptFailureType type;
+        String message;
+
+        @Override
+        public String toString() {
+            return "attempt " + attempt + ": " + origin + " " + type + ": " + message;
+        }
+    }
+}
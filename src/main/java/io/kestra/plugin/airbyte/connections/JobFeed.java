@@ -0,0 +1,91 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.airbyte.AirbyteClient;
+import io.kestra.plugin.airbyte.models.JobList;
+import io.kestra.plugin.airbyte.models.JobWithAttempts;
+
+/**
+ * Lists the jobs of workspaces or connections of an Airbyte instance updated since a date, for the triggers.
+ */
+class JobFeed {
+    static final int PAGE_SIZE = 100;
+
+    private final AirbyteClient client;
+    private final String url;
+
+    JobFeed(AirbyteClient client, String url) {
+        this.client = client;
+        this.url = url;
+    }
+
+    /**
+     * Jobs updated since {@code updatedAtStart}, truncated to the second as Airbyte dates are, with one paged query for
+     * all the workspaces and one per connection. Sorted by update date then job ID.
+     */
+    List<JobWithAttempts> updatedSince(
+        RunContext runContext,
+        List<String> workspaceIds,
+        List<String> connectionIds,
+        List<String> configTypes,
+        List<String> statuses,
+        Instant updatedAtStart
+    ) throws Exception {
+        if (workspaceIds.isEmpty() && connectionIds.isEmpty()) {
+            throw new IllegalArgumentException("One of `workspaceIds` or `connectionIds` is required");
+        }
+
+        Map<Long, JobWithAttempts> jobs = new LinkedHashMap<>();
+        if (!workspaceIds.isEmpty()) {
+            this.list(runContext, "/api/v1/jobs/list_for_workspaces", Map.of("workspaceIds", workspaceIds), configTypes, statuses, updatedAtStart, jobs);
+        }
+        for (String connectionId : connectionIds) {
+            this.list(runContext, "/api/v1/jobs/list", Map.of("configId", connectionId), configTypes, statuses, updatedAtStart, jobs);
+        }
+
+        return jobs.values().stream()
+            .sorted(Comparator.comparing((JobWithAttempts job) -> job.getJob().getUpdatedAt()).thenComparing(job -> job.getJob().getId()))
+            .toList();
+    }
+
+    private void list(
+        RunContext runContext,
+        String path,
+        Map<String, Object> filter,
+        List<String> configTypes,
+        List<String> statuses,
+        Instant updatedAtStart,
+        Map<Long, JobWithAttempts> jobs
+    ) throws Exception {
+        int rowOffset = 0;
+        while (true) {
+            Map<String, Object> body = new LinkedHashMap<>(filter);
+            body.put("configTypes", configTypes);
+            if (!statuses.isEmpty()) {
+                body.put("statuses", statuses);
+            }
+            body.put("updatedAtStart", updatedAtStart.truncatedTo(ChronoUnit.SECONDS).toString());
+            body.put("orderByField", "updatedAt");
+            body.put("orderByMethod", "ASC");
+            body.put("pagination", Map.of("pageSize", PAGE_SIZE, "rowOffset", rowOffset));
+
+            JobList jobList = this.client.post(runContext, this.url, path, body, JobList.class);
+            List<JobWithAttempts> page = jobList.getJobs() == null ? List.of() : jobList.getJobs();
+            page.stream()
+                .filter(job -> job.getJob() != null && job.getJob().getId() != null && job.getJob().getUpdatedAt() != null)
+                .forEach(job -> jobs.put(job.getJob().getId(), job));
+
+            rowOffset += page.size();
+            if (page.size() < PAGE_SIZE || (jobList.getTotalJobCount() != null && rowOffset >= jobList.getTotalJobCount())) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import io.kestra.plugin.airbyte.models.Event;
+
+/**
+ * Position in the logs of each attempt of an Airbyte job, kept in primitive arrays indexed by attempt so only a few
+ * numbers survive between polls.
+ * <p>
+ * The cursor is moved before the new entries are returned: an entry is delivered at most once, even if forwarding it fails.
+ */
+class LogCursor {
+    private static final int INITIAL_ATTEMPTS = 4;
+
+    // raw log lines: count of lines already delivered
+    private int[] deliveredLines = new int[INITIAL_ATTEMPTS];
+
+    // structured events: latest timestamp delivered and how many events with exactly that timestamp were delivered
+    private long[] eventTimestamps = newTimestamps(INITIAL_ATTEMPTS);
+    private int[] deliveredAtTimestamp = new int[INITIAL_ATTEMPTS];
+
+    /**
+     * Raw log lines of an attempt that were not delivered yet, as a view on {@code lines}. If Airbyte returns fewer
+     * lines than already delivered, nothing is returned until the logs grow past the cursor again.
+     */
+    List<String> nextLines(int attempt, List<String> lines) {
+        ensureCapacity(attempt);
+
+        int from = deliveredLines[attempt];
+        int to = lines.size();
+        if (to <= from) {
+            return List.of();
+        }
+
+        deliveredLines[attempt] = to;
+
+        return lines.subList(from, to);
+    }
+
+    /**
+     * Structured events of an attempt newer than the cursor, sorted by timestamp. The position of events in the list is
+     * ignored, so reordered or truncated event lists are handled.
+     */
+    List<Event> nextEvents(int attempt, List<Event> events) {
+        ensureCapacity(attempt);
+
+        long cursor = eventTimestamps[attempt];
+        int alreadyDelivered = deliveredAtTimestamp[attempt];
+        int seenAtCursor = 0;
+        List<Event> fresh = new ArrayList<>();
+
+        for (Event event : events) {
+            long timestamp = timestamp(event);
+            if (timestamp < cursor || (timestamp == cursor && seenAtCursor++ < alreadyDelivered)) {
+                continue;
+            }
+            fresh.add(event);
+        }
+
+        if (fresh.isEmpty()) {
+            return fresh;
+        }
+
+        fresh.sort(Comparator.comparingLong(LogCursor::timestamp));
+
+        long latest = timestamp(fresh.getLast());
+        int atLatest = 0;
+        for (int i = fresh.size() - 1; i >= 0 && timestamp(fresh.get(i)) == latest; i--) {
+            atLatest++;
+        }
+
+        if (latest == cursor) {
+            deliveredAtTimestamp[attempt] += atLatest;
+        } else {
+            eventTimestamps[attempt] = latest;
+            deliveredAtTimestamp[attempt] = atLatest;
+        }
+
+        return fresh;
+    }
+
+    private void ensureCapacity(int attempt) {
+        if (attempt < deliveredLines.length) {
+            return;
+        }
+
+        int previous = deliveredLines.length;
+        int capacity = Math.max(attempt + 1, previous * 2);
+
+        deliveredLines = Arrays.copyOf(deliveredLines, capacity);
+        deliveredAtTimestamp = Arrays.copyOf(deliveredAtTimestamp, capacity);
+        eventTimestamps = Arrays.copyOf(eventTimestamps, capacity);
+        Arrays.fill(eventTimestamps, previous, capacity, Long.MIN_VALUE);
+    }
+
+    private static long[] newTimestamps(int capacity) {
+        long[] timestamps = new long[capacity];
+        Arrays.fill(timestamps, Long.MIN_VALUE);
+        return timestamps;
+    }
+
+    private static long timestamp(Event event) {
+        return event.getTimestamp() == null ? 0 : event.getTimestamp();
+    }
+}
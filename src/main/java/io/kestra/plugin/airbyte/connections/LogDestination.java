@@ -0,0 +1,16 @@
+package io.kestra.plugin.airbyte.connections;
+
+/**
+ * Where the attempt logs fetched from Airbyte are sent.
+ */
+public enum LogDestination {
+    /**
+     * Forward every log line to the task logger.
+     */
+    LOGGER,
+
+    /**
+     * Write one gzip-compressed file per attempt to internal storage and only forward ERROR lines and a tail to the task logger.
+     */
+    STORAGE
+}
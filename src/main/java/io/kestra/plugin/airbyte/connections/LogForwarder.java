@@ -0,0 +1,187 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import io.kestra.plugin.airbyte.models.Event;
+
+/**
+ * Forwards Airbyte log lines to the task logger, dropping lines below a minimum level and collapsing the lines
+ * that exceed a per-second budget into "N similar lines suppressed" summaries. WARN and ERROR lines are never
+ * suppressed.
+ */
+class LogForwarder {
+    private static final char ESCAPE = '\u001b';
+    private static final int MAX_SUPPRESSED_GROUPS = 100;
+    private static final String OTHER_GROUP = "";
+
+    private final Logger logger;
+    private final Level minLevel;
+    private final int maxLinesPerSecond;
+    private final Map<String, Suppressed> suppressed = new LinkedHashMap<>();
+
+    private long windowStart = System.nanoTime();
+    private int windowCount;
+
+    LogForwarder(Logger logger, Level minLevel, Integer maxLinesPerSecond) {
+        this.logger = logger;
+        this.minLevel = minLevel == null ? Level.TRACE : minLevel;
+        this.maxLinesPerSecond = maxLinesPerSecond == null || maxLinesPerSecond <= 0 ? Integer.MAX_VALUE : maxLinesPerSecond;
+    }
+
+    void forward(String line) {
+        this.forward(line, level(line));
+    }
+
+    void forward(String line, Level level) {
+        if (level.toInt() < minLevel.toInt()) {
+            return;
+        }
+
+        if (level.toInt() >= Level.WARN.toInt()) {
+            log(logger, level, line);
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (now - windowStart >= TimeUnit.SECONDS.toNanos(1)) {
+            this.flush();
+            windowStart = now;
+            windowCount = 0;
+        }
+
+        if (windowCount < maxLinesPerSecond) {
+            windowCount++;
+            log(logger, level, line);
+            return;
+        }
+
+        String signature = signature(line);
+        if (!suppressed.containsKey(signature) && suppressed.size() >= MAX_SUPPRESSED_GROUPS) {
+            signature = OTHER_GROUP;
+        }
+
+        suppressed.computeIfAbsent(signature, k -> new Suppressed(line, level)).add(level);
+    }
+
+    /**
+     * Log one summary per group of suppressed lines.
+     */
+    void flush() {
+        suppressed.forEach((signature, group) -> log(
+            logger,
+            group.level,
+            signature.equals(OTHER_GROUP) ?
+                group.count + " other lines suppressed by the log rate limit" :
+                group.count + " similar lines suppressed by the log rate limit, e.g.: " + group.sample
+        ));
+        suppressed.clear();
+    }
+
+    /**
+     * Detect the level of an Airbyte log line in a single pass, looking for the first level name directly followed by
+     * {@code [}, either plain as in {@code ERROR[} or through the ANSI escape sequence resetting its colour. Lines
+     * without such a marker are considered INFO.
+     */
+    static Level level(String line) {
+        for (int index = line.indexOf('['); index >= 0; index = line.indexOf('[', index + 1)) {
+            int end = index > 0 && line.charAt(index - 1) == ESCAPE ? index - 1 : index;
+
+            if (end >= 5) {
+                if (line.startsWith("ERROR", end - 5)) {
+                    return Level.ERROR;
+                }
+                if (line.startsWith("DEBUG", end - 5)) {
+                    return Level.DEBUG;
+                }
+                if (line.startsWith("TRACE", end - 5)) {
+                    return Level.TRACE;
+                }
+            }
+
+            if (end >= 4) {
+                if (line.startsWith("WARN", end - 4)) {
+                    return Level.WARN;
+                }
+                if (line.startsWith("INFO", end - 4)) {
+                    return Level.INFO;
+                }
+            }
+        }
+
+        return Level.INFO;
+    }
+
+    /**
+     * Level of a structured Airbyte event, INFO when missing or unknown.
+     */
+    static Level level(Event event) {
+        if (event.getLevel() == null) {
+            return Level.INFO;
+        }
+
+        return switch (event.getLevel().toUpperCase(Locale.ROOT)) {
+            case "ERROR", "FATAL" -> Level.ERROR;
+            case "WARN", "WARNING" -> Level.WARN;
+            case "DEBUG" -> Level.DEBUG;
+            case "TRACE" -> Level.TRACE;
+            default -> Level.INFO;
+        };
+    }
+
+    static void log(Logger logger, Level level, String message) {
+        switch (level) {
+            case ERROR -> logger.error(message);
+            case WARN -> logger.warn(message);
+            case DEBUG -> logger.debug(message);
+            case TRACE -> logger.trace(message);
+            default -> logger.info(message);
+        }
+    }
+
+    /**
+     * Lines only differing by numbers (timestamps, counters, ids) are considered similar.
+     */
+    private static String signature(String line) {
+        StringBuilder signature = new StringBuilder(line.length());
+        boolean inNumber = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (Character.isDigit(c)) {
+                if (!inNumber) {
+                    signature.append('#');
+                    inNumber = true;
+                }
+            } else {
+                signature.append(c);
+                inNumber = false;
+            }
+        }
+
+        return signature.toString();
+    }
+
+    private static class Suppressed {
+        private final String sample;
+        private Level level;
+        private long count;
+
+        private Suppressed(String sample, Level level) {
+            this.sample = sample;
+            this.level = level;
+        }
+
+        private void add(Level level) {
+            if (level.toInt() > this.level.toInt()) {
+                this.level = level;
+            }
+            count++;
+        }
+    }
+}
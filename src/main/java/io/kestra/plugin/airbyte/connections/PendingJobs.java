@@ -0,0 +1,111 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.kv.KVEntry;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Airbyte jobs started with the {@link CompletionMode#NOTIFICATION} completion mode, kept in the namespace KV store
+ * until {@link ResolvePendingJobs} sees them end, then as resolved for a while so the sweeps can return them again
+ * in case their first resume came before the execution was paused.
+ */
+final class PendingJobs {
+    static final String PREFIX = "airbyte.pending-job.";
+
+    private PendingJobs() {
+    }
+
+    static void register(RunContext runContext, PendingJob job, Duration ttl) throws Exception {
+        put(runContext, job, "Airbyte job waiting for its completion notification", ttl);
+    }
+
+    static PendingJob resolve(RunContext runContext, PendingJob job, String status, Duration retention) throws Exception {
+        PendingJob resolved = job.toBuilder()
+            .status(status)
+            .resolvedAt(Instant.now())
+            .build();
+
+        put(runContext, resolved, "Ended Airbyte job, kept until its execution is resumed", retention);
+
+        return resolved;
+    }
+
+    static Optional<PendingJob> get(RunContext runContext, String connectionId, long jobId) throws Exception {
+        return read(kvStore(runContext).getValue(key(connectionId, jobId)));
+    }
+
+    static List<PendingJob> list(RunContext runContext) throws Exception {
+        KVStore kvStore = kvStore(runContext);
+        List<PendingJob> jobs = new ArrayList<>();
+        for (KVEntry entry : kvStore.list()) {
+            if (entry.key().startsWith(PREFIX)) {
+                read(kvStore.getValue(entry.key())).ifPresent(jobs::add);
+            }
+        }
+
+        return jobs;
+    }
+
+    static boolean remove(RunContext runContext, PendingJob job) throws Exception {
+        return kvStore(runContext).delete(key(job.getConnectionId(), job.getJobId()));
+    }
+
+    private static void put(RunContext runContext, PendingJob job, String description, Duration ttl) throws Exception {
+        kvStore(runContext).put(
+            key(job.getConnectionId(), job.getJobId()),
+            new KVValueAndMetadata(
+                new KVMetadata(description, ttl),
+                JacksonMapper.ofJson().convertValue(job, JacksonMapper.MAP_TYPE_REFERENCE)
+            )
+        );
+    }
+
+    static String key(String connectionId, long jobId) {
+        return PREFIX + connectionId + "." + jobId;
+    }
+
+    private static Optional<PendingJob> read(Optional<KVValue> value) {
+        return value
+            .filter(kvValue -> kvValue.value() instanceof Map<?, ?>)
+            .map(kvValue -> JacksonMapper.ofJson().convertValue(kvValue.value(), PendingJob.class));
+    }
+
+    private static KVStore kvStore(RunContext runContext) {
+        return runContext.namespaceKv(runContext.flowInfo().namespace());
+    }
+
+    @Value
+    @Builder(toBuilder = true)
+    @Jacksonized
+    static class PendingJob {
+        Long jobId;
+        String connectionId;
+        String url;
+        String namespace;
+        String flowId;
+        String executionId;
+        Instant registeredAt;
+
+        /**
+         * Final status, once resolved.
+         */
+        String status;
+
+        Instant resolvedAt;
+    }
+}
@@ -0,0 +1,7 @@
+package io.kestra.plugin.airbyte.connections;
+
+public class PreflightCheckFailedException extends Exception {
+    public PreflightCheckFailedException(String errorMessage) {
+        super(errorMessage);
+    }
+}
@@ -0,0 +1,229 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.RealtimeTriggerInterface;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.TriggerOutput;
+import io.kestra.core.models.triggers.TriggerService;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.airbyte.models.JobStatus;
+import io.kestra.plugin.airbyte.models.JobWithAttempts;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Trigger a flow on each state change of an Airbyte job",
+    description = "Keeps a single watch over the jobs of the watched workspaces or connections and starts one execution per job state change, e.g. `pending` to `running` then `succeeded` or `failed`, within a `pollInterval`. Each poll only lists the jobs updated since the previous one, and the states are compared in memory, so one watch replaces any number of flows polling their own jobs. Jobs already running when the watch starts are reported on their next update, with an empty `previousStatus`"
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Alert within seconds when a sync fails",
+            code = """
+                id: airbyte_job_events
+                namespace: company.team
+
+                tasks:
+                  - id: alert
+                    type: io.kestra.plugin.core.log.Log
+                    level: ERROR
+                    message: "Airbyte job {{ trigger.job.jobId }} of connection {{ trigger.job.connectionId }} failed"
+
+                triggers:
+                  - id: airbyte
+                    type: io.kestra.plugin.airbyte.connections.RealtimeTrigger
+                    url: http://localhost:8080
+                    workspaceIds:
+                      - 9a1d2c33-7b5e-4f0a-8c6d-1e2f3a4b5c6d
+                    statuses:
+                      - failed
+                """
+        )
+    }
+)
+public class RealtimeTrigger extends AbstractJobTrigger implements RealtimeTriggerInterface, TriggerOutput<RealtimeTrigger.Output> {
+    @Schema(
+        title = "Poll interval",
+        description = "Interval between two listings of the updated jobs. Defaults to 5 seconds"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> pollInterval = Property.ofValue(Duration.ofSeconds(5));
+
+    @Schema(
+        title = "Statuses",
+        description = "Only start executions for the changes to one of these statuses: `pending`, `running`, `incomplete`, `succeeded`, `failed` or `cancelled`. By default, every change starts one"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> statuses;
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final AtomicBoolean isActive = new AtomicBoolean(true);
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final CountDownLatch waitForTermination = new CountDownLatch(1);
+
+    @Override
+    public Publisher<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        Duration pollInterval = runContext.render(this.pollInterval).as(Duration.class).orElseThrow();
+        List<String> statuses = runContext.render(this.statuses).asList(String.class);
+
+        return Flux.<Output>create(sink -> {
+                sink.onDispose(() -> this.isActive.set(false));
+                Thread.ofVirtual().name("airbyte-realtime-trigger-" + context.getTriggerId()).start(() -> this.watch(runContext, pollInterval, statuses, sink));
+            })
+            .map(output -> TriggerService.generateRealtimeExecution(this, conditionContext, context, output));
+    }
+
+    private void watch(RunContext runContext, Duration pollInterval, List<String> statuses, FluxSink<Output> sink) {
+        Watch watch = new Watch(Instant.now());
+        runContext.logger().info("Watching the Airbyte job changes from {}", watch.watermark());
+
+        try {
+            while (this.isActive.get()) {
+                try {
+                    for (Output output : watch.changes(this.updatedSince(runContext, List.of(), watch.watermark()))) {
+                        if (statuses.isEmpty() || statuses.contains(output.getJob().getStatus())) {
+                            sink.next(output);
+                        }
+                    }
+                } catch (Exception e) {
+                    // keep watching, the next poll lists the jobs updated since the same watermark
+                    runContext.logger().warn("Unable to list the Airbyte jobs, retrying in {}: {}", pollInterval, e.getMessage());
+                }
+
+                Thread.sleep(pollInterval.toMillis());
+            }
+            sink.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sink.complete();
+        } finally {
+            this.waitForTermination.countDown();
+        }
+    }
+
+    @Override
+    public void kill() {
+        this.stop(true);
+    }
+
+    @Override
+    public void stop() {
+        this.stop(false);
+    }
+
+    private void stop(boolean wait) {
+        if (!this.isActive.compareAndSet(true, false)) {
+            return;
+        }
+
+        if (wait) {
+            try {
+                this.waitForTermination.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Last known status and update date of the jobs, to turn the listings of updated jobs into state changes. Ended jobs are
+     * forgotten once the watermark moved past their last update, as they cannot be listed again.
+     */
+    static class Watch {
+        private static final List<JobStatus> ENDED_JOB_STATUS = List.of(
+            JobStatus.FAILED,
+            JobStatus.CANCELLED,
+            JobStatus.SUCCEEDED
+        );
+
+        private final Map<Long, Known> known = new HashMap<>();
+        private Instant watermark;
+
+        Watch(Instant start) {
+            this.watermark = start.truncatedTo(ChronoUnit.SECONDS);
+        }
+
+        Instant watermark() {
+            return this.watermark;
+        }
+
+        List<Output> changes(List<JobWithAttempts> jobs) {
+            List<Output> changes = new ArrayList<>();
+            for (JobWithAttempts job : jobs) {
+                Instant updatedAt = job.getJob().getUpdatedAt().truncatedTo(ChronoUnit.SECONDS);
+                Known previous = this.known.put(job.getJob().getId(), new Known(job.getJob().getStatus(), updatedAt));
+                JobStatus previousStatus = previous == null ? null : previous.status();
+                if (previousStatus != job.getJob().getStatus()) {
+                    changes.add(Output.builder()
+                        .previousStatus(previousStatus == null ? null : previousStatus.toString())
+                        .job(JobResult.of(job))
+                        .build()
+                    );
+                }
+
+                if (updatedAt.isAfter(this.watermark)) {
+                    this.watermark = updatedAt;
+                }
+            }
+
+            this.known.values().removeIf(job -> ENDED_JOB_STATUS.contains(job.status()) && job.updatedAt().isBefore(this.watermark));
+
+            return changes;
+        }
+
+        private record Known(JobStatus status, Instant updatedAt) {
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Previous status",
+            description = "Status of the job before the change, empty for the jobs seen for the first time"
+        )
+        private final String previousStatus;
+
+        @Schema(
+            title = "Job",
+            description = "The job with its new status, and its per-stream statistics summed across attempts"
+        )
+        private final JobResult job;
+    }
+}
@@ -0,0 +1,218 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.airbyte.models.JobInfo;
+import io.kestra.plugin.airbyte.models.StreamDescriptor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Reset selected streams of an Airbyte connection",
+    description = "Resets or clears only the selected streams of a connection instead of the whole connection and, by default, waits for the job to finish the same way as `CheckStatus`. Polling runs every second for up to 60 minutes unless you change `pollFrequency` or `maxDuration`"
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Backfill a single table",
+            code = """
+                id: airbyte_reset_stream
+                namespace: company.team
+
+                tasks:
+                  - id: reset
+                    type: io.kestra.plugin.airbyte.connections.Reset
+                    url: http://localhost:8080
+                    connectionId: e3b1ce92-547c-436f-b1e8-23b6936c12cd
+                    mode: CLEAR
+                    streams:
+                      - name: orders
+                        namespace: public
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "attempts.count",
+            type = Counter.TYPE,
+            unit = "attempt",
+            description = "Number of attempts made during the Airbyte job (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "records.committed",
+            type = Counter.TYPE,
+            unit = "record",
+            description = "Number of records successfully committed, per stream (`stream` tag) depending on `streamMetrics` (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "records.committed.total",
+            type = Counter.TYPE,
+            unit = "record",
+            description = "Number of records successfully committed across all streams (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "records.emitted",
+            type = Counter.TYPE,
+            unit = "record",
+            description = "Number of records emitted during processing, per stream (`stream` tag) depending on `streamMetrics` (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "records.emitted.total",
+            type = Counter.TYPE,
+            unit = "record",
+            description = "Number of records emitted during processing across all streams (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "bytes.emitted",
+            type = Counter.TYPE,
+            unit = "byte",
+            description = "Number of bytes emitted during processing, per stream (`stream` tag) depending on `streamMetrics` (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "bytes.emitted.total",
+            type = Counter.TYPE,
+            unit = "byte",
+            description = "Number of bytes emitted during processing across all streams (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "state.emitted",
+            type = Counter.TYPE,
+            unit = "message",
+            description = "Number of state messages emitted, per stream (`stream` tag) depending on `streamMetrics` (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "state.emitted.total",
+            type = Counter.TYPE,
+            unit = "message",
+            description = "Number of state messages emitted across all streams (emitted when `wait` is enabled)"
+        )
+    }
+)
+public class Reset extends AbstractConnectionJob implements RunnableTask<Reset.Output> {
+    @Schema(
+        title = "Streams",
+        description = "Streams to reset, by `name` and optional `namespace`"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<List<StreamDescriptor>> streams;
+
+    @Schema(
+        title = "Mode",
+        description = "`RESET` uses the stream reset API available in every Airbyte version. `CLEAR` uses the stream clear API that replaces it in Airbyte 1.0 and later. Defaults to `RESET`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<ResetMode> mode = Property.ofValue(ResetMode.RESET);
+
+    @Override
+    public Reset.Output run(RunContext runContext) throws Exception {
+        String connectionId = runContext.render(this.getConnectionId()).as(String.class).orElseThrow();
+        this.route(runContext, connectionId);
+        List<StreamDescriptor> streams = runContext.render(this.streams).asList(StreamDescriptor.class);
+        if (streams.isEmpty()) {
+            throw new IllegalArgumentException("At least one stream is required to reset connection " + connectionId);
+        }
+
+        List<Map<String, Object>> streamsBody = streams.stream()
+            .map(stream -> {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("streamName", stream.getName());
+                if (stream.getNamespace() != null) {
+                    body.put("streamNamespace", stream.getNamespace());
+                }
+                return body;
+            })
+            .toList();
+
+        String path = switch (runContext.render(this.mode).as(ResetMode.class).orElseThrow()) {
+            case RESET -> "/api/v1/connections/reset/stream";
+            case CLEAR -> "/api/v1/connections/clear/stream";
+        };
+
+        runContext.logger().info("Resetting {} stream(s) of connection {}", streams.size(), connectionId);
+
+        JobInfo jobInfoRead = this.trigger(runContext, path, Map.of("connectionId", connectionId, "streams", streamsBody));
+        if (jobInfoRead == null) {
+            return Output.builder()
+                .url(this.baseUrl(runContext))
+                .alreadyRunning(true)
+                .jobId(null)
+                .build();
+        }
+
+        Long jobId = jobInfoRead.getJob().getId();
+
+        if (this.registerForNotification(runContext, connectionId, jobId) || !runContext.render(this.getWait()).as(Boolean.class).orElseThrow()) {
+            return Output.builder()
+                .url(this.baseUrl(runContext))
+                .alreadyRunning(false)
+                .jobId(jobId)
+                .build();
+        }
+
+        CheckStatus.Output checkStatusOutput = this.waitFor(runContext, jobId);
+
+        return Output.builder()
+            .url(this.baseUrl(runContext))
+            .jobId(jobId)
+            .alreadyRunning(false)
+            .attemptLogs(checkStatusOutput.getAttemptLogs())
+            .streams(checkStatusOutput.getStreams())
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Job ID",
+            description = "Airbyte job ID created by the reset request"
+        )
+        private final Long jobId;
+
+        @Schema(
+            title = "Airbyte instance URL",
+            description = "Base URL of the Airbyte instance that owns the job, to check it with `connections.CheckStatus` when `urls` is used"
+        )
+        private final String url;
+
+        @Schema(
+            title = "Already running",
+            description = "Whether Airbyte reported that a job was already running for the connection"
+        )
+        private final Boolean alreadyRunning;
+
+        @Schema(
+            title = "Attempt logs",
+            description = "Internal storage URIs of the gzip-compressed logs of each attempt, in attempt order. Only set when `wait` is enabled and `logDestination` is `STORAGE`"
+        )
+        private final List<URI> attemptLogs;
+
+        @Schema(
+            title = "Streams",
+            description = "Statistics of each reset stream, summed across attempts. Only set when `wait` is enabled"
+        )
+        private final List<CheckStatus.StreamResult> streams;
+    }
+}
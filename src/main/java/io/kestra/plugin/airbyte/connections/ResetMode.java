@@ -0,0 +1,16 @@
+package io.kestra.plugin.airbyte.connections;
+
+/**
+ * How the selected streams of a connection are reset.
+ */
+public enum ResetMode {
+    /**
+     * Reset the streams with {@code /api/v1/connections/reset/stream}, supported by every Airbyte version.
+     */
+    RESET,
+
+    /**
+     * Clear the streams with {@code /api/v1/connections/clear/stream}, the replacement of reset in Airbyte 1.0 and later.
+     */
+    CLEAR
+}
@@ -0,0 +1,288 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.airbyte.AbstractAirbyteConnection;
+import io.kestra.plugin.airbyte.models.JobInfo;
+import io.kestra.plugin.airbyte.models.JobStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Resolve the Airbyte jobs waiting for their completion notification",
+    description = "Resolves the jobs registered in the namespace KV store by `connections.Sync` or `connections.Reset` with `completion: NOTIFICATION`. With a `payload`, only the job of the Airbyte webhook notification is resolved; without one, every registered job is checked, which is the fallback for lost notifications when run on a schedule. Ended jobs are returned with the execution that started them, to resume it with `io.kestra.plugin.core.execution.Resume`. As a job can end before its execution reaches the `Pause` task, in which case that first resume fails, ended jobs are only removed from the KV store after `resumeRetention`, and every run without `payload` returns them again until then; let the resume task allow failures, as the executions already resumed are then resumed twice. Run it in the namespace of the flows starting the jobs. The job status is checked on the instance recorded with the job, with the credentials of this task"
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Start a sync and pause until Airbyte notifies its end, without holding a worker",
+            code = """
+                id: airbyte_sync
+                namespace: company.team
+
+                tasks:
+                  - id: sync
+                    type: io.kestra.plugin.airbyte.connections.Sync
+                    url: http://localhost:8080
+                    connectionId: e3b1ce92-547c-436f-b1e8-23b6936c12cd
+                    completion: NOTIFICATION
+                    maxDuration: PT6H
+
+                  - id: wait
+                    type: io.kestra.plugin.core.flow.Pause
+                    pauseDuration: PT6H
+
+                  - id: result
+                    type: io.kestra.plugin.airbyte.connections.CheckStatus
+                    url: "{{ outputs.sync.url }}"
+                    jobId: "{{ outputs.sync.jobId }}"
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Resume the paused executions from the Airbyte webhook notifications, and every 15 minutes in case one is lost",
+            code = """
+                id: airbyte_notifications
+                namespace: company.team
+
+                tasks:
+                  - id: resolve
+                    type: io.kestra.plugin.airbyte.connections.ResolvePendingJobs
+                    payload: "{{ trigger.body ?? {} }}"
+
+                  - id: resume
+                    type: io.kestra.plugin.core.flow.ForEach
+                    values: "{{ outputs.resolve.executionIds }}"
+                    tasks:
+                      - id: resume_execution
+                        type: io.kestra.plugin.core.execution.Resume
+                        executionId: "{{ taskrun.value }}"
+                        allowFailure: true
+
+                triggers:
+                  - id: airbyte
+                    type: io.kestra.plugin.core.trigger.Webhook
+                    key: "{{ secret('AIRBYTE_WEBHOOK_KEY') }}"
+
+                  - id: sweep
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "*/15 * * * *"
+                """
+        )
+    },
+    metrics = {
+        @Metric(name = "resolved", type = Counter.TYPE),
+        @Metric(name = "retried", type = Counter.TYPE, description = "Ended jobs returned again by a run without `payload`")
+    }
+)
+public class ResolvePendingJobs extends AbstractAirbyteConnection implements RunnableTask<ResolvePendingJobs.Output> {
+    private static final List<JobStatus> ENDED_JOB_STATUS = List.of(
+        JobStatus.FAILED,
+        JobStatus.CANCELLED,
+        JobStatus.SUCCEEDED
+    );
+
+    @Schema(
+        title = "Notification payload",
+        description = "Body of the Airbyte webhook notification, e.g. `{{ trigger.body }}`, with the job under `data.jobId` and the connection under `data.connection.id`. When empty, every registered job is checked"
+    )
+    @PluginProperty(group = "main")
+    private Property<Map<String, Object>> payload;
+
+    @Schema(
+        title = "Verify notifications",
+        description = "If `true`, check the status of the notified job on Airbyte instead of trusting the payload, so a replayed or early notification never resumes an execution. Defaults to `true`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> verify = Property.ofValue(true);
+
+    @Schema(
+        title = "Resume retention",
+        description = "How long an ended job stays in the KV store, returned again by every run without `payload` in case its execution was not paused yet when first resumed. Defaults to 15 minutes"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> resumeRetention = Property.ofValue(Duration.ofMinutes(15));
+
+    @Override
+    public ResolvePendingJobs.Output run(RunContext runContext) throws Exception {
+        Map<String, Object> payload = runContext.render(this.payload).asMap(String.class, Object.class);
+        boolean notification = !payload.isEmpty();
+
+        List<PendingJobs.PendingJob> candidates = new ArrayList<>();
+        Notification notified = null;
+        if (notification) {
+            notified = Notification.of(payload);
+            if (notified == null) {
+                runContext.logger().warn("Ignoring an Airbyte notification without job: {}", payload.keySet());
+            } else {
+                long jobId = notified.jobId();
+                PendingJobs.get(runContext, notified.connectionId(), jobId).ifPresentOrElse(
+                    candidates::add,
+                    () -> runContext.logger().debug("No execution waiting for job {}", jobId)
+                );
+            }
+        } else {
+            candidates.addAll(PendingJobs.list(runContext));
+            runContext.logger().info("Checking {} pending job(s)", candidates.size());
+        }
+
+        boolean verify = runContext.render(this.verify).as(Boolean.class).orElseThrow();
+        Duration resumeRetention = runContext.render(this.resumeRetention).as(Duration.class).orElseThrow();
+        List<Resolved> resolved = new ArrayList<>();
+        int retried = 0;
+        for (PendingJobs.PendingJob pending : candidates) {
+            if (pending.getResolvedAt() != null) {
+                if (notification) {
+                    runContext.logger().debug("Job {} already resolved", pending.getJobId());
+                } else if (pending.getResolvedAt().plus(resumeRetention).isBefore(Instant.now())) {
+                    PendingJobs.remove(runContext, pending);
+                } else {
+                    // the execution may not have been paused yet on the first resume
+                    resolved.add(Resolved.of(pending));
+                    retried++;
+                }
+                continue;
+            }
+
+            JobStatus status;
+            if (notification && !verify) {
+                status = notified.success() ? JobStatus.SUCCEEDED : JobStatus.FAILED;
+            } else {
+                try {
+                    JobInfo jobInfo = this.post(runContext, pending.getUrl(), "/api/v1/jobs/get_without_logs", Map.of("id", pending.getJobId()), JobInfo.class);
+                    status = jobInfo.getJob() == null ? null : jobInfo.getJob().getStatus();
+                } catch (Exception e) {
+                    if (notification) {
+                        throw e;
+                    }
+                    runContext.logger().warn("Unable to check job {} on {}, kept pending: {}", pending.getJobId(), pending.getUrl(), e.getMessage());
+                    continue;
+                }
+            }
+
+            if (!ENDED_JOB_STATUS.contains(status)) {
+                runContext.logger().debug("Job {} is {}, kept pending", pending.getJobId(), status);
+                continue;
+            }
+
+            runContext.logger().info("Job {} ended with status {}, resuming execution {}", pending.getJobId(), status, pending.getExecutionId());
+            resolved.add(Resolved.of(PendingJobs.resolve(runContext, pending, status.toString(), resumeRetention)));
+        }
+
+        runContext.metric(Counter.of("resolved", resolved.size() - retried));
+        runContext.metric(Counter.of("retried", retried));
+
+        return Output.builder()
+            .jobs(resolved)
+            .executionIds(resolved.stream().map(Resolved::getExecutionId).filter(Objects::nonNull).distinct().toList())
+            .build();
+    }
+
+    /**
+     * The job of an Airbyte webhook notification, {@code null} for the payloads without one such as the test
+     * notifications.
+     */
+    record Notification(long jobId, String connectionId, boolean success) {
+        static Notification of(Map<String, Object> payload) {
+            if (!(payload.get("data") instanceof Map<?, ?> data) || !(data.get("connection") instanceof Map<?, ?> connection)) {
+                return null;
+            }
+
+            Object jobId = data.get("jobId");
+            Object connectionId = connection.get("id");
+            if (jobId == null || connectionId == null) {
+                return null;
+            }
+
+            long id = jobId instanceof Number number ? number.longValue() : Long.parseLong(jobId.toString());
+            return new Notification(id, connectionId.toString(), Boolean.parseBoolean(String.valueOf(data.get("success"))));
+        }
+    }
+
+    @Value
+    @Builder
+    public static class Resolved {
+        @Schema(title = "Job ID")
+        Long jobId;
+
+        @Schema(title = "Connection ID")
+        String connectionId;
+
+        @Schema(
+            title = "Status",
+            description = "Final status of the job: `succeeded`, `failed` or `cancelled`"
+        )
+        String status;
+
+        @Schema(title = "Airbyte instance URL")
+        String url;
+
+        @Schema(title = "Namespace of the flow that started the job")
+        String namespace;
+
+        @Schema(title = "Flow that started the job")
+        String flowId;
+
+        @Schema(title = "Execution that started the job")
+        String executionId;
+
+        @Schema(title = "Registration date")
+        Instant registeredAt;
+
+        @Schema(title = "Resolution date")
+        Instant resolvedAt;
+
+        static Resolved of(PendingJobs.PendingJob job) {
+            return Resolved.builder()
+                .jobId(job.getJobId())
+                .connectionId(job.getConnectionId())
+                .status(job.getStatus())
+                .url(job.getUrl())
+                .namespace(job.getNamespace())
+                .flowId(job.getFlowId())
+                .executionId(job.getExecutionId())
+                .registeredAt(job.getRegisteredAt())
+                .resolvedAt(job.getResolvedAt())
+                .build();
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Resolved jobs",
+            description = "Jobs that ended, and on the runs without `payload` the ones already returned within `resumeRetention`"
+        )
+        private final List<Resolved> jobs;
+
+        @Schema(
+            title = "Execution IDs",
+            description = "Executions that started the resolved jobs, to resume with `io.kestra.plugin.core.execution.Resume`"
+        )
+        private final List<String> executionIds;
+    }
+}
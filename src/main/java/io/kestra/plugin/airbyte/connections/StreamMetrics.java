@@ -0,0 +1,21 @@
+package io.kestra.plugin.airbyte.connections;
+
+/**
+ * Which per-stream metrics are emitted once a job ends. Totals across all streams are always emitted.
+ */
+public enum StreamMetrics {
+    /**
+     * One series per stream.
+     */
+    ALL,
+
+    /**
+     * One series for each of the top `topStreams` streams by bytes emitted, the other streams are grouped as `other`.
+     */
+    TOP_N,
+
+    /**
+     * Only the totals across all streams.
+     */
+    TOTALS
+}
@@ -0,0 +1,69 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.plugin.airbyte.models.Attempt;
+import io.kestra.plugin.airbyte.models.AttemptInfo;
+import io.kestra.plugin.airbyte.models.AttemptStats;
+import io.kestra.plugin.airbyte.models.AttemptStreamStats;
+import io.kestra.plugin.airbyte.models.JobInfo;
+
+/**
+ * Aggregation of the per-stream statistics reported by each attempt of an Airbyte job.
+ */
+final class StreamStatistics {
+    private StreamStatistics() {
+    }
+
+    /**
+     * Statistics of each stream summed across all attempts, in the order streams are first reported.
+     */
+    static Map<String, AttemptStats> aggregate(JobInfo jobInfo) {
+        return aggregate(jobInfo.getAttempts().stream().map(AttemptInfo::getAttempt).toList());
+    }
+
+    /**
+     * Same as {@link #aggregate(JobInfo)} for the attempts of a job list entry.
+     */
+    static Map<String, AttemptStats> aggregate(List<Attempt> attempts) {
+        Map<String, AttemptStats> streams = new LinkedHashMap<>();
+
+        for (Attempt attempt : attempts) {
+            if (attempt == null || attempt.getStreamStats() == null) {
+                continue;
+            }
+
+            for (AttemptStreamStats streamStats : attempt.getStreamStats()) {
+                if (streamStats.getStats() != null) {
+                    streams.merge(streamStats.getStreamName(), streamStats.getStats(), StreamStatistics::sum);
+                }
+            }
+        }
+
+        return streams;
+    }
+
+    static AttemptStats total(Collection<AttemptStats> stats) {
+        return stats.stream().reduce(AttemptStats.builder().build(), StreamStatistics::sum);
+    }
+
+    static AttemptStats sum(AttemptStats left, AttemptStats right) {
+        return AttemptStats.builder()
+            .recordsEmitted(sum(left.getRecordsEmitted(), right.getRecordsEmitted()))
+            .bytesEmitted(sum(left.getBytesEmitted(), right.getBytesEmitted()))
+            .stateMessagesEmitted(sum(left.getStateMessagesEmitted(), right.getStateMessagesEmitted()))
+            .recordsCommitted(sum(left.getRecordsCommitted(), right.getRecordsCommitted()))
+            .build();
+    }
+
+    private static Long sum(Long left, Long right) {
+        if (left == null) {
+            return right;
+        }
+
+        return right == null ? left : left + right;
+    }
+}
@@ -2,33 +2,36 @@ package io.kestra.plugin.airbyte.connections;
 
 import java.net.URI;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.slf4j.Logger;
-
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.http.HttpRequest;
-import io.kestra.core.http.HttpResponse;
-import io.kestra.core.http.client.HttpClientException;
-import io.kestra.core.http.client.HttpClientRequestException;
-import io.kestra.core.http.client.HttpClientResponseException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
-import io.kestra.plugin.airbyte.AbstractAirbyteConnection;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.plugin.airbyte.models.AttemptInfo;
+import io.kestra.plugin.airbyte.models.AttemptStats;
+import io.kestra.plugin.airbyte.models.CheckConnectionResult;
+import io.kestra.plugin.airbyte.models.ConnectionInfo;
 import io.kestra.plugin.airbyte.models.JobInfo;
+import io.kestra.plugin.airbyte.models.JobList;
 import io.kestra.plugin.airbyte.models.JobStatus;
+import io.kestra.plugin.airbyte.models.JobWithAttempts;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
-import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
 @ToString
@@ -55,6 +58,28 @@ import io.kestra.core.models.annotations.PluginProperty;
                     connectionId: e3b1ce92-547c-436f-b1e8-23b6936c12cd
                 """
         ),
+        @Example(
+            full = true,
+            title = "Only rebuild the models of the streams that received new records",
+            code = """
+                id: airbyte_sync_changed_streams
+                namespace: company.team
+
+                tasks:
+                  - id: sync
+                    type: io.kestra.plugin.airbyte.connections.Sync
+                    url: http://localhost:8080
+                    connectionId: e3b1ce92-547c-436f-b1e8-23b6936c12cd
+
+                  - id: rebuild_orders
+                    type: io.kestra.plugin.core.flow.If
+                    condition: "{{ outputs.sync.changedStreams contains 'orders' }}"
+                    then:
+                      - id: log
+                        type: io.kestra.plugin.core.log.Log
+                        message: "orders received new records"
+                """
+        ),
         @Example(
             full = true,
             title = "Trigger a single Airbyte sync on schedule",
@@ -88,134 +113,226 @@ import io.kestra.core.models.annotations.PluginProperty;
             name = "records.committed",
             type = Counter.TYPE,
             unit = "record",
-            description = "Number of records successfully committed (emitted when `wait` is enabled)"
+            description = "Number of records successfully committed, per stream (`stream` tag) depending on `streamMetrics` (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "records.committed.total",
+            type = Counter.TYPE,
+            unit = "record",
+            description = "Number of records successfully committed across all streams (emitted when `wait` is enabled)"
         ),
         @Metric(
             name = "records.emitted",
             type = Counter.TYPE,
             unit = "record",
-            description = "Number of records emitted during processing (emitted when `wait` is enabled)"
+            description = "Number of records emitted during processing, per stream (`stream` tag) depending on `streamMetrics` (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "records.emitted.total",
+            type = Counter.TYPE,
+            unit = "record",
+            description = "Number of records emitted during processing across all streams (emitted when `wait` is enabled)"
         ),
         @Metric(
             name = "bytes.emitted",
             type = Counter.TYPE,
             unit = "byte",
-            description = "Number of bytes emitted during processing (emitted when `wait` is enabled)"
+            description = "Number of bytes emitted during processing, per stream (`stream` tag) depending on `streamMetrics` (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "bytes.emitted.total",
+            type = Counter.TYPE,
+            unit = "byte",
+            description = "Number of bytes emitted during processing across all streams (emitted when `wait` is enabled)"
         ),
         @Metric(
             name = "state.emitted",
             type = Counter.TYPE,
             unit = "message",
-            description = "Number of state messages emitted (emitted when `wait` is enabled)"
+            description = "Number of state messages emitted, per stream (`stream` tag) depending on `streamMetrics` (emitted when `wait` is enabled)"
+        ),
+        @Metric(
+            name = "state.emitted.total",
+            type = Counter.TYPE,
+            unit = "message",
+            description = "Number of state messages emitted across all streams (emitted when `wait` is enabled)"
         )
     }
 )
-public class Sync extends AbstractAirbyteConnection implements RunnableTask<Sync.Output> {
-    private static final List<JobStatus> ENDED_JOB_STATUS = List.of(
-        JobStatus.FAILED,
-        JobStatus.CANCELLED,
-        JobStatus.SUCCEEDED
-    );
-
-    @Schema(
-        title = "Connection ID",
-        description = "Airbyte connection ID to sync"
-    )
-    @NotNull
-    @PluginProperty(group = "main")
-    private Property<String> connectionId;
-
+public class Sync extends AbstractConnectionJob implements RunnableTask<Sync.Output> {
     @Schema(
-        title = "Wait for completion",
-        description = "If `true`, wait for the Airbyte job to reach a terminal state before the task completes. Defaults to `true`"
+        title = "Maximum staleness",
+        description = "If the last successful sync of the connection ended within this duration, return it instead of starting a new sync. By default, a sync is always started"
     )
-    @Builder.Default
     @PluginProperty(group = "execution")
-    private Property<Boolean> wait = Property.ofValue(true);
+    private Property<Duration> maxStaleness;
 
     @Schema(
-        title = "Maximum wait duration",
-        description = "Maximum total time to wait when `wait` is enabled. Defaults to 60 minutes"
+        title = "Pre-flight check",
+        description = "If `true`, check the source and the destination of the connection before triggering the sync, and fail without triggering it when a check fails. Successful checks are cached in the namespace KV store for `preflightCacheTtl`. Defaults to `false`"
     )
     @Builder.Default
-    Property<Duration> maxDuration = Property.ofValue(Duration.ofMinutes(60));
-
-    @Schema(
-        title = "Poll frequency",
-        description = "Interval between status checks while waiting for the job to finish. Defaults to 1 second"
-    )
-    @Builder.Default
-    Property<Duration> pollFrequency = Property.ofValue(Duration.ofSeconds(1));
+    @PluginProperty(group = "execution")
+    private Property<Boolean> preflightCheck = Property.ofValue(false);
 
     @Schema(
-        title = "Fail on active sync",
-        description = "If `true`, fail when Airbyte reports that a sync is already running for the connection. If `false`, the task succeeds with `alreadyRunning` set to `true`"
+        title = "Pre-flight check cache TTL",
+        description = "How long a successful source or destination check is reused by the next syncs. Defaults to 1 hour"
     )
     @Builder.Default
-    Property<Boolean> failOnActiveSync = Property.ofValue(true);
+    @PluginProperty(group = "execution")
+    private Property<Duration> preflightCacheTtl = Property.ofValue(Duration.ofHours(1));
 
     @Override
     public Sync.Output run(RunContext runContext) throws Exception {
-        Logger logger = runContext.logger();
-        HttpResponse<JobInfo> syncResponse;
-
-        try {
-            HttpRequest.HttpRequestBuilder syncRequest = HttpRequest.builder()
-                .uri(URI.create(runContext.render(getUrl()).as(String.class).orElseThrow() + "/api/v1/connections/sync/"))
-                .method("POST")
-                .addHeader("Accept-Encoding", "identity")
-                .body(
-                    HttpRequest.JsonRequestBody.builder()
-                        .content(Map.of("connectionId", runContext.render(this.connectionId).as(String.class).orElseThrow()))
-                        .build()
-                );
-
-            syncResponse = this.request(runContext, syncRequest, JobInfo.class);
-        } catch (HttpClientRequestException | HttpClientResponseException | SyncAlreadyRunningException | RuntimeException e) {
-            if (e.getMessage() != null && e.getMessage().contains("A sync is already running")) {
-                if (runContext.render(this.failOnActiveSync).as(Boolean.class).orElseThrow()) {
-                    throw e;
-                } else {
-                    return Output.builder()
-                        .alreadyRunning(true)
-                        .jobId(null)
-                        .build();
-                }
+        String connectionId = runContext.render(this.getConnectionId()).as(String.class).orElseThrow();
+        this.route(runContext, connectionId);
+
+        Optional<Duration> maxStaleness = runContext.render(this.maxStaleness).as(Duration.class);
+        if (maxStaleness.isPresent()) {
+            Optional<JobWithAttempts> recent = this.recentSuccess(runContext, connectionId, maxStaleness.get());
+            if (recent.isPresent()) {
+                return this.reuse(runContext, recent.get());
             }
-            throw e;
-        } catch (HttpClientException e) {
-            throw new RuntimeException("Request failed with error: " + e.getMessage(), e);
         }
 
-        JobInfo jobInfoRead = Optional.ofNullable(syncResponse.getBody())
-            .orElseThrow(() -> new IllegalStateException("Missing body on trigger"));
+        if (runContext.render(this.preflightCheck).as(Boolean.class).orElseThrow()) {
+            this.preflight(runContext, connectionId);
+        }
+
+        JobInfo jobInfoRead = this.trigger(runContext, "/api/v1/connections/sync/", Map.of("connectionId", connectionId));
+        if (jobInfoRead == null) {
+            return Output.builder()
+                .url(this.baseUrl(runContext))
+                .alreadyRunning(true)
+                .jobId(null)
+                .build();
+        }
 
-        logger.info("Job status {} with response: {}", syncResponse.getStatus(), jobInfoRead);
         Long jobId = jobInfoRead.getJob().getId();
 
-        if (!runContext.render(this.wait).as(Boolean.class).orElseThrow()) {
+        if (this.registerForNotification(runContext, connectionId, jobId) || !runContext.render(this.getWait()).as(Boolean.class).orElseThrow()) {
             return Output.builder()
+                .url(this.baseUrl(runContext))
                 .alreadyRunning(false)
                 .jobId(jobId)
                 .build();
         }
 
-        CheckStatus checkStatus = CheckStatus.builder()
-            .url(getUrl())
-            .username(getUsername())
-            .password(getPassword())
-            .token(getToken())
-            .applicationCredentials(getApplicationCredentials())
-            .pollFrequency(pollFrequency)
-            .maxDuration(maxDuration)
-            .jobId(Property.ofValue(jobId.toString()))
+        CheckStatus.Output checkStatusOutput = this.waitFor(runContext, jobId);
+
+        return Output.builder()
+            .url(this.baseUrl(runContext))
+            .jobId(jobId)
+            .alreadyRunning(false)
+            .attemptLogs(checkStatusOutput.getAttemptLogs())
+            .streams(checkStatusOutput.getStreams())
+            .changedStreams(checkStatusOutput.getChangedStreams())
             .build();
+    }
+
+    private void preflight(RunContext runContext, String connectionId) throws Exception {
+        ConnectionInfo connection = this.cachedPost(
+            runContext,
+            "connection",
+            connectionId,
+            "/api/v1/connections/get",
+            Map.of("connectionId", connectionId),
+            ConnectionInfo.class
+        );
+
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        Duration ttl = runContext.render(this.preflightCacheTtl).as(Duration.class).orElseThrow();
+
+        this.check(runContext, kvStore, ttl, "source", connection.getSourceId());
+        this.check(runContext, kvStore, ttl, "destination", connection.getDestinationId());
+    }
+
+    private void check(RunContext runContext, KVStore kvStore, Duration ttl, String kind, String id) throws Exception {
+        String key = "airbyte." + kind + "-check." + id;
+        if (kvStore.getValue(key).isPresent()) {
+            runContext.logger().debug("Reusing the successful check of {} {}", kind, id);
+            return;
+        }
+
+        CheckConnectionResult result = this.post(
+            runContext,
+            "/api/v1/" + kind + "s/check_connection",
+            Map.of(kind + "Id", id),
+            CheckConnectionResult.class
+        );
+
+        if (!"succeeded".equals(result.getStatus())) {
+            throw new PreflightCheckFailedException(
+                "Check of " + kind + " " + id + " failed with status '" + result.getStatus() + "', sync not triggered: " + result.getMessage()
+            );
+        }
+
+        runContext.logger().info("Check of {} {} succeeded", kind, id);
+        kvStore.put(key, new KVValueAndMetadata(new KVMetadata("Last successful Airbyte " + kind + " check", ttl), Instant.now().toString()));
+    }
+
+    /**
+     * The last successful sync among the latest jobs of the connection, if it ended within {@code maxStaleness}.
+     */
+    private Optional<JobWithAttempts> recentSuccess(RunContext runContext, String connectionId, Duration maxStaleness) throws Exception {
+        HttpRequest.HttpRequestBuilder listRequest = HttpRequest.builder()
+            .uri(URI.create(this.baseUrl(runContext) + "/api/v1/jobs/list"))
+            .method("POST")
+            .body(
+                HttpRequest.JsonRequestBody.builder()
+                    .content(Map.of(
+                        "configTypes", List.of("sync"),
+                        "configId", connectionId,
+                        "statuses", List.of("succeeded"),
+                        "pagination", Map.of("pageSize", 1, "rowOffset", 0)
+                    ))
+                    .build()
+            );
+
+        JobList jobList = this.request(runContext, listRequest, JobList.class).getBody();
+        if (jobList == null || jobList.getJobs() == null) {
+            return Optional.empty();
+        }
 
-        checkStatus.run(runContext);
+        Instant threshold = Instant.now().minus(maxStaleness);
+
+        // only the newest successful job is listed
+        return jobList.getJobs()
+            .stream()
+            .filter(job -> job.getJob() != null && job.getJob().getStatus() == JobStatus.SUCCEEDED)
+            .findFirst()
+            .filter(job -> job.getJob().getUpdatedAt() != null && job.getJob().getUpdatedAt().isAfter(threshold));
+    }
+
+    private Sync.Output reuse(RunContext runContext, JobWithAttempts recent) throws IllegalVariableEvaluationException {
+        runContext.logger().info(
+            "Skipping sync, job {} succeeded at {} within the maximum staleness",
+            recent.getJob().getId(),
+            recent.getJob().getUpdatedAt()
+        );
+
+        JobInfo jobInfo = JobInfo.builder()
+            .job(recent.getJob())
+            .attempts(Optional.ofNullable(recent.getAttempts()).orElse(List.of())
+                .stream()
+                .map(attempt -> AttemptInfo.builder().attempt(attempt).build())
+                .toList())
+            .build();
+
+        Map<String, AttemptStats> streams = StreamStatistics.aggregate(jobInfo);
+        List<CheckStatus.StreamResult> streamResults = streams.entrySet()
+            .stream()
+            .map(e -> CheckStatus.StreamResult.of(e.getKey(), e.getValue()))
+            .toList();
 
         return Output.builder()
-            .jobId(jobId)
+            .url(this.baseUrl(runContext))
+            .jobId(recent.getJob().getId())
             .alreadyRunning(false)
+            .reused(true)
+            .streams(streamResults)
+            .changedStreams(streamResults.stream().filter(CheckStatus.StreamResult::getChanged).map(CheckStatus.StreamResult::getName).toList())
             .build();
     }
 
@@ -228,10 +345,41 @@ public class Sync extends AbstractAirbyteConnection implements RunnableTask<Sync
         )
         private final Long jobId;
 
+        @Schema(
+            title = "Airbyte instance URL",
+            description = "Base URL of the Airbyte instance that owns the job, to check it with `connections.CheckStatus` when `urls` is used"
+        )
+        private final String url;
+
         @Schema(
             title = "Already running",
             description = "Whether Airbyte reported that a sync was already running for the connection"
         )
         private final Boolean alreadyRunning;
+
+        @Schema(
+            title = "Reused",
+            description = "Whether a recent successful sync within `maxStaleness` was returned instead of starting a new one"
+        )
+        @Builder.Default
+        private final Boolean reused = false;
+
+        @Schema(
+            title = "Attempt logs",
+            description = "Internal storage URIs of the gzip-compressed logs of each attempt, in attempt order. Only set when `wait` is enabled and `logDestination` is `STORAGE`"
+        )
+        private final List<URI> attemptLogs;
+
+        @Schema(
+            title = "Streams",
+            description = "Statistics of each synced stream, summed across attempts. Only set when `wait` is enabled"
+        )
+        private final List<CheckStatus.StreamResult> streams;
+
+        @Schema(
+            title = "Changed streams",
+            description = "Names of the streams that received new records, to skip downstream processing of the unchanged ones. Only set when `wait` is enabled"
+        )
+        private final List<String> changedStreams;
     }
 }
@@ -0,0 +1,178 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.triggers.PollingTriggerInterface;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.TriggerOutput;
+import io.kestra.core.models.triggers.TriggerService;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.plugin.airbyte.models.Job;
+import io.kestra.plugin.airbyte.models.JobWithAttempts;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Trigger a flow when Airbyte jobs end",
+    description = "On each evaluation, lists the jobs of the watched workspaces or connections that ended since the last one, with one incremental query per workspace set or connection, and starts an execution with all of them, with their status and per-stream statistics. The `updatedAt` and job ID cursor is kept in the namespace KV store for 30 days after the last ended job; the first evaluation only starts the cursor, so the jobs that ended before are not replayed. Use it to run downstream flows after the syncs scheduled by Airbyte itself, instead of one `connections.CheckStatus` per flow"
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Log the stats of every sync of a workspace once it ended",
+            code = """
+                id: airbyte_sync_ended
+                namespace: company.team
+
+                tasks:
+                  - id: each_job
+                    type: io.kestra.plugin.core.flow.ForEach
+                    values: "{{ trigger.jobs }}"
+                    tasks:
+                      - id: log
+                        type: io.kestra.plugin.core.log.Log
+                        message: "Job {{ json(taskrun.value).jobId }} of connection {{ json(taskrun.value).connectionId }} {{ json(taskrun.value).status }} with {{ json(taskrun.value).recordsCommitted }} records"
+
+                triggers:
+                  - id: airbyte
+                    type: io.kestra.plugin.airbyte.connections.Trigger
+                    url: http://localhost:8080
+                    interval: PT1M
+                    workspaceIds:
+                      - 9a1d2c33-7b5e-4f0a-8c6d-1e2f3a4b5c6d
+                """
+        )
+    }
+)
+public class Trigger extends AbstractJobTrigger implements PollingTriggerInterface, TriggerOutput<Trigger.Output> {
+    private static final List<String> ENDED_JOB_STATUS = List.of("succeeded", "failed", "cancelled");
+
+    // the cursors of deleted triggers expire, a trigger without ended job for that long starts again from now
+    private static final Duration CURSOR_TTL = Duration.ofDays(30);
+
+    @Schema(
+        title = "Interval",
+        description = "Interval between two evaluations, each one listing the jobs ended since the previous one. Defaults to 1 minute"
+    )
+    @Builder.Default
+    private final Duration interval = Duration.ofMinutes(1);
+
+    @Override
+    public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        KVStore kvStore = runContext.namespaceKv(context.getNamespace());
+        String key = "airbyte.trigger-cursor." + context.getFlowId() + "." + context.getTriggerId();
+
+        Optional<Cursor> cursor = Cursor.read(kvStore.getValue(key));
+        if (cursor.isEmpty()) {
+            Instant now = Instant.now();
+            Cursor.of(now, Set.of()).write(kvStore, key);
+            runContext.logger().info("Watching the Airbyte jobs ending after {}", now);
+            return Optional.empty();
+        }
+
+        List<JobWithAttempts> ended = this.updatedSince(runContext, ENDED_JOB_STATUS, cursor.get().updatedAt()).stream()
+            .filter(job -> cursor.get().isNew(job.getJob()))
+            .toList();
+
+        if (ended.isEmpty()) {
+            runContext.logger().debug("No Airbyte job ended since {}", cursor.get().updatedAt());
+            return Optional.empty();
+        }
+
+        cursor.get().advance(ended).write(kvStore, key);
+        runContext.logger().info("{} Airbyte job(s) ended since {}", ended.size(), cursor.get().updatedAt());
+
+        Output output = Output.builder()
+            .jobs(ended.stream().map(JobResult::of).toList())
+            .size(ended.size())
+            .build();
+
+        return Optional.of(TriggerService.generateExecution(this, conditionContext, context, output));
+    }
+
+    /**
+     * Last update date seen, truncated to the second as Airbyte dates are, with the jobs seen at that second: they
+     * are listed again by the next query and skipped.
+     */
+    record Cursor(Instant updatedAt, Set<Long> jobIds) {
+        static Cursor of(Instant updatedAt, Set<Long> jobIds) {
+            return new Cursor(updatedAt.truncatedTo(ChronoUnit.SECONDS), Set.copyOf(jobIds));
+        }
+
+        static Optional<Cursor> read(Optional<KVValue> value) {
+            if (value.isEmpty() || !(value.get().value() instanceof Map<?, ?> map) || map.get("updatedAt") == null) {
+                return Optional.empty();
+            }
+
+            Set<Long> jobIds = new HashSet<>();
+            if (map.get("jobIds") instanceof List<?> list) {
+                list.stream().filter(Number.class::isInstance).forEach(id -> jobIds.add(((Number) id).longValue()));
+            }
+
+            return Optional.of(Cursor.of(Instant.parse(map.get("updatedAt").toString()), jobIds));
+        }
+
+        boolean isNew(Job job) {
+            int compared = job.getUpdatedAt().truncatedTo(ChronoUnit.SECONDS).compareTo(this.updatedAt);
+            return compared > 0 || (compared == 0 && !this.jobIds.contains(job.getId()));
+        }
+
+        Cursor advance(List<JobWithAttempts> jobs) {
+            Instant last = jobs.stream()
+                .map(job -> job.getJob().getUpdatedAt().truncatedTo(ChronoUnit.SECONDS))
+                .max(Instant::compareTo)
+                .orElse(this.updatedAt);
+
+            Set<Long> jobIds = new HashSet<>(last.equals(this.updatedAt) ? this.jobIds : Set.of());
+            jobs.stream()
+                .filter(job -> job.getJob().getUpdatedAt().truncatedTo(ChronoUnit.SECONDS).equals(last))
+                .forEach(job -> jobIds.add(job.getJob().getId()));
+
+            return Cursor.of(last, jobIds);
+        }
+
+        void write(KVStore kvStore, String key) throws Exception {
+            kvStore.put(key, new KVValueAndMetadata(
+                new KVMetadata("Cursor of the Airbyte jobs trigger", CURSOR_TTL),
+                Map.of("updatedAt", this.updatedAt.toString(), "jobIds", List.copyOf(this.jobIds))
+            ));
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Ended jobs",
+            description = "Jobs that ended since the previous evaluation, oldest first"
+        )
+        private final List<JobResult> jobs;
+
+        @Schema(title = "Number of ended jobs")
+        private final Integer size;
+    }
+}
@@ -0,0 +1,388 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.plugin.airbyte.AbstractAirbyteConnection;
+import io.kestra.plugin.airbyte.models.ConnectionInfo;
+import io.kestra.plugin.airbyte.models.ConnectionList;
+import io.kestra.plugin.airbyte.models.JobInfo;
+import io.kestra.plugin.airbyte.models.JobList;
+import io.kestra.plugin.airbyte.models.JobStatus;
+import io.kestra.plugin.airbyte.models.JobWithAttempts;
+import io.kestra.plugin.airbyte.models.SourceInfo;
+import io.kestra.plugin.airbyte.models.SourceList;
+import io.kestra.plugin.airbyte.models.Tag;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Sync the matching connections of an Airbyte workspace",
+    description = "Lists the connections of a workspace, keeps the ones matching every filter, and syncs them with at most `parallelism` jobs running at once. One summary row per connection is written to an ION file in internal storage as soon as its job ends. The duration of each successful job is kept in the namespace KV store, so `order: LONGEST_FIRST` can start the longest connections first and shorten the whole batch"
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Sync every active Postgres connection tagged `nightly`, 20 at a time",
+            code = """
+                id: airbyte_morning_load
+                namespace: company.team
+
+                tasks:
+                  - id: sync
+                    type: io.kestra.plugin.airbyte.connections.WorkspaceSync
+                    url: http://localhost:8080
+                    workspaceId: 2f5ef0ec-3fd4-4a47-b3d5-92f4d7a3c9a1
+                    tags:
+                      - nightly
+                    sourceTypes:
+                      - Postgres
+                    parallelism: 20
+
+                    order: LONGEST_FIRST
+                    priorities:
+                      finance_ledger: 10
+
+                triggers:
+                  - id: morning
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "0 5 * * *"
+                """
+        )
+    }
+)
+public class WorkspaceSync extends AbstractAirbyteConnection implements RunnableTask<WorkspaceSync.Output> {
+    @Schema(
+        title = "Workspace ID",
+        description = "Airbyte workspace whose connections are synced"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> workspaceId;
+
+    @Schema(
+        title = "Name pattern",
+        description = "Only sync the connections whose name matches this regular expression"
+    )
+    @PluginProperty(group = "main")
+    private Property<String> namePattern;
+
+    @Schema(
+        title = "Tags",
+        description = "Only sync the connections with at least one of these tags"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> tags;
+
+    @Schema(
+        title = "Statuses",
+        description = "Only sync the connections with one of these statuses: `active`, `inactive` or `deprecated`. Defaults to `active`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<List<String>> statuses = Property.ofValue(List.of("active"));
+
+    @Schema(
+        title = "Source types",
+        description = "Only sync the connections reading from one of these source connectors, by connector name (e.g. `Postgres`), case-insensitive"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> sourceTypes;
+
+    @Schema(
+        title = "Parallelism",
+        description = "Maximum number of sync jobs running at the same time. Defaults to 10"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> parallelism = Property.ofValue(10);
+
+    @Schema(
+        title = "Order",
+        description = "`LIST` starts the connections in the order Airbyte lists them. `LONGEST_FIRST` starts the connections with the longest average duration of their last jobs first, and reports the predicted makespan; connections without history are expected to take the average duration of the others. Defaults to `LIST`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<BatchOrder> order = Property.ofValue(BatchOrder.LIST);
+
+    @Schema(
+        title = "Priorities",
+        description = "Priority of connections by name or ID, applied before `order`: higher priorities start first. Connections not listed have priority 0"
+    )
+    @PluginProperty(group = "execution")
+    private Property<Map<String, Integer>> priorities;
+
+    @Schema(
+        title = "Poll frequency",
+        description = "Interval between two status checks of all running jobs. Defaults to 5 seconds"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> pollFrequency = Property.ofValue(Duration.ofSeconds(5));
+
+    @Schema(
+        title = "Maximum duration",
+        description = "Maximum total time to wait for all the syncs. On timeout, the task fails after storing the summary of the syncs that ended, with the jobs still running listed with the `running` status. Defaults to 6 hours"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> maxDuration = Property.ofValue(Duration.ofHours(6));
+
+    @Schema(
+        title = "Fail on job failure",
+        description = "If `true`, fail the task once all the syncs ended when at least one of them did not succeed. Syncs skipped because one was already running are not failures. Defaults to `true`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> failOnJobFailure = Property.ofValue(true);
+
+    @Override
+    public WorkspaceSync.Output run(RunContext runContext) throws Exception {
+        String workspaceId = runContext.render(this.workspaceId).as(String.class).orElseThrow();
+
+        List<ConnectionInfo> connections = this.matchingConnections(runContext, workspaceId);
+        runContext.logger().info("Syncing {} connection(s) of workspace {}", connections.size(), workspaceId);
+
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        boolean longestFirst = runContext.render(this.order).as(BatchOrder.class).orElseThrow() == BatchOrder.LONGEST_FIRST;
+
+        List<BatchRunner.Item> items = new ArrayList<>(connections.size());
+        for (ConnectionInfo connection : connections) {
+            items.add(BatchRunner.Item.builder()
+                .connectionId(connection.getConnectionId())
+                .name(connection.getName())
+                .expectedDuration(longestFirst ? this.expectedDuration(runContext, kvStore, connection.getConnectionId()) : null)
+                .build()
+            );
+        }
+
+        List<BatchRunner.Item> ordered = BatchScheduler.order(items, runContext.render(this.priorities).asMap(String.class, Integer.class));
+
+        return this.runBatch(runContext, kvStore, ordered, longestFirst);
+    }
+
+    /**
+     * Expected duration from the KV store history, seeded from the last successful jobs of the connection on first use.
+     */
+    private Duration expectedDuration(RunContext runContext, KVStore kvStore, String connectionId) throws Exception {
+        Optional<Duration> expected = BatchScheduler.expected(kvStore, connectionId);
+        if (expected.isPresent()) {
+            return expected.get();
+        }
+
+        JobList jobList = this.post(
+            runContext,
+            "/api/v1/jobs/list",
+            Map.of(
+                "configTypes", List.of("sync"),
+                "configId", connectionId,
+                "pagination", Map.of("pageSize", BatchScheduler.HISTORY_SIZE, "rowOffset", 0)
+            ),
+            JobList.class
+        );
+
+        List<JobWithAttempts> jobs = Optional.ofNullable(jobList.getJobs()).orElse(List.of());
+        // listed newest first, recorded oldest first
+        for (int i = jobs.size() - 1; i >= 0; i--) {
+            var job = jobs.get(i).getJob();
+            if (job != null && job.getStatus() == JobStatus.SUCCEEDED && job.getCreatedAt() != null && job.getUpdatedAt() != null) {
+                BatchScheduler.record(kvStore, connectionId, Duration.between(job.getCreatedAt(), job.getUpdatedAt()));
+            }
+        }
+
+        return BatchScheduler.expected(kvStore, connectionId).orElse(null);
+    }
+
+    private List<ConnectionInfo> matchingConnections(RunContext runContext, String workspaceId) throws Exception {
+        Map<String, Object> body = Map.of("workspaceId", workspaceId);
+
+        List<ConnectionInfo> connections = Optional.ofNullable(
+            this.cachedPost(runContext, "connections", workspaceId, "/api/v1/connections/list", body, ConnectionList.class).getConnections()
+        ).orElse(List.of());
+
+        Optional<Pattern> namePattern = runContext.render(this.namePattern).as(String.class).map(Pattern::compile);
+        List<String> tags = runContext.render(this.tags).asList(String.class);
+        List<String> statuses = runContext.render(this.statuses).asList(String.class);
+        List<String> sourceTypes = runContext.render(this.sourceTypes).asList(String.class)
+            .stream()
+            .map(sourceType -> sourceType.toLowerCase(Locale.ROOT))
+            .toList();
+
+        Map<String, String> sourceTypeById = sourceTypes.isEmpty() ? Map.of() : Optional.ofNullable(
+                this.cachedPost(runContext, "sources", workspaceId, "/api/v1/sources/list", body, SourceList.class).getSources()
+            )
+            .orElse(List.of())
+            .stream()
+            .filter(source -> source.getSourceName() != null)
+            .collect(Collectors.toMap(SourceInfo::getSourceId, source -> source.getSourceName().toLowerCase(Locale.ROOT), (a, b) -> a));
+
+        return connections.stream()
+            .filter(connection -> namePattern.isEmpty() || (connection.getName() != null && namePattern.get().matcher(connection.getName()).find()))
+            .filter(connection -> statuses.isEmpty() || statuses.contains(connection.getStatus()))
+            .filter(connection -> tags.isEmpty() || Optional.ofNullable(connection.getTags()).orElse(List.of())
+                .stream()
+                .map(Tag::getName)
+                .anyMatch(tags::contains)
+            )
+            .filter(connection -> sourceTypes.isEmpty() || sourceTypes.contains(sourceTypeById.get(connection.getSourceId())))
+            .toList();
+    }
+
+    private WorkspaceSync.Output runBatch(RunContext runContext, KVStore kvStore, List<BatchRunner.Item> items, boolean predict) throws Exception {
+        int parallelism = runContext.render(this.parallelism).as(Integer.class).orElseThrow();
+        BatchRunner runner = new BatchRunner(
+            this.batchClient(runContext),
+            runContext.logger(),
+            parallelism,
+            runContext.render(this.pollFrequency).as(Duration.class).orElseThrow(),
+            runContext.render(this.maxDuration).as(Duration.class).orElseThrow()
+        );
+
+        Duration predictedMakespan = predict ? BatchScheduler.makespan(items, parallelism) : null;
+        if (predictedMakespan != null) {
+            runContext.logger().info("Predicted makespan of {} sync(s) on {} slot(s): {}", items.size(), parallelism, predictedMakespan);
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger alreadyRunning = new AtomicInteger();
+        File file = runContext.workingDir().createTempFile(".ion").toFile();
+        Instant started = Instant.now();
+        TimeoutException timeout = null;
+
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+            runner.run(items, summary -> {
+                if (summary.succeeded()) {
+                    succeeded.incrementAndGet();
+                    if (summary.getDurationMs() != null) {
+                        BatchScheduler.record(kvStore, summary.getConnectionId(), Duration.ofMillis(summary.getDurationMs()));
+                    }
+                } else if (summary.getJobId() == null && summary.getError() == null) {
+                    alreadyRunning.incrementAndGet();
+                }
+
+                FileSerde.write(outputStream, summary);
+                outputStream.flush();
+            });
+        } catch (TimeoutException e) {
+            timeout = e;
+        }
+
+        Duration actualMakespan = Duration.between(started, Instant.now());
+        runContext.logger().info("Actual makespan of {} sync(s): {}", items.size(), actualMakespan);
+
+        // the summary of the syncs that ended is kept even on timeout, with a row per job still running
+        URI uri = runContext.storage().putFile(file);
+        if (timeout != null) {
+            throw new TimeoutException(timeout.getMessage() + ", partial summary in " + uri);
+        }
+
+        int failed = items.size() - succeeded.get() - alreadyRunning.get();
+
+        if (failed > 0 && runContext.render(this.failOnJobFailure).as(Boolean.class).orElseThrow()) {
+            throw new IllegalStateException(failed + " of " + items.size() + " sync(s) did not succeed, summary in " + uri);
+        }
+
+        return Output.builder()
+            .connections(items.size())
+            .succeeded(succeeded.get())
+            .failed(failed)
+            .alreadyRunning(alreadyRunning.get())
+            .predictedMakespan(predictedMakespan)
+            .actualMakespan(actualMakespan)
+            .uri(uri)
+            .build();
+    }
+
+    private BatchRunner.Client batchClient(RunContext runContext) {
+        return new BatchRunner.Client() {
+            @Override
+            public Long start(String connectionId) throws Exception {
+                try {
+                    JobInfo jobInfo = WorkspaceSync.this.post(runContext, "/api/v1/connections/sync", Map.of("connectionId", connectionId), JobInfo.class);
+                    return jobInfo.getJob().getId();
+                } catch (SyncAlreadyRunningException e) {
+                    return null;
+                }
+            }
+
+            @Override
+            public JobInfo get(long jobId) throws Exception {
+                return WorkspaceSync.this.post(runContext, "/api/v1/jobs/get_without_logs", Map.of("id", jobId), JobInfo.class);
+            }
+        };
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Connections",
+            description = "Number of connections matching the filters"
+        )
+        private final Integer connections;
+
+        @Schema(title = "Succeeded syncs")
+        private final Integer succeeded;
+
+        @Schema(
+            title = "Failed syncs",
+            description = "Number of syncs that failed, were cancelled or could not be started"
+        )
+        private final Integer failed;
+
+        @Schema(
+            title = "Already running",
+            description = "Number of connections skipped because a sync was already running"
+        )
+        private final Integer alreadyRunning;
+
+        @Schema(
+            title = "Predicted makespan",
+            description = "Expected duration of the whole batch from the past job durations. Only set when `order` is `LONGEST_FIRST`"
+        )
+        private final Duration predictedMakespan;
+
+        @Schema(
+            title = "Actual makespan",
+            description = "Time from the first sync start to the last sync end"
+        )
+        private final Duration actualMakespan;
+
+        @Schema(
+            title = "Summary file",
+            description = "Internal storage URI of an ION file with one row per connection: `connectionId`, `name`, `jobId`, `status`, `startedAt`, `endedAt`, `durationMs`, `attempts`, `recordsCommitted`, `bytesEmitted` and `error`"
+        )
+        private final URI uri;
+    }
+}
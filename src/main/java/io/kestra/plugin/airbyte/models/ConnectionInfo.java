@@ -0,0 +1,23 @@
+package io.kestra.plugin.airbyte.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Value;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Jacksonized
+@SuperBuilder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ConnectionInfo {
+    String connectionId;
+    String name;
+    String workspaceId;
+    String sourceId;
+    String destinationId;
+    String status;
+    List<Tag> tags;
+}
@@ -0,0 +1,17 @@
+package io.kestra.plugin.airbyte.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Value;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Jacksonized
+@SuperBuilder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ConnectionList {
+    List<ConnectionInfo> connections;
+}
@@ -0,0 +1,21 @@
+package io.kestra.plugin.airbyte.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Value;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Jacksonized
+@SuperBuilder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ConnectionState {
+    ConnectionStateType stateType;
+    String connectionId;
+    Object state;
+    List<StreamState> streamState;
+    GlobalState globalState;
+}
@@ -0,0 +1,33 @@
+package io.kestra.plugin.airbyte.models;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum ConnectionStateType {
+    STREAM("stream"),
+    GLOBAL("global"),
+    LEGACY("legacy"),
+    NOT_SET("not_set");
+
+    private String value;
+
+    ConnectionStateType(String value) {
+        this.value = value;
+    }
+
+    @Override
+    @JsonValue
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @JsonCreator
+    public static ConnectionStateType fromValue(String text) {
+        for (ConnectionStateType b : ConnectionStateType.values()) {
+            if (String.valueOf(b.value).equals(text)) {
+                return b;
+            }
+        }
+        return null;
+    }
+}
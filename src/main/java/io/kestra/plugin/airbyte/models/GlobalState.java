@@ -0,0 +1,18 @@
+package io.kestra.plugin.airbyte.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Value;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Jacksonized
+@SuperBuilder
+public class GlobalState {
+    @JsonProperty("shared_state")
+    Object sharedState;
+    List<StreamState> streamStates;
+}
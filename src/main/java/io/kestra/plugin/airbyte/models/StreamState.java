@@ -0,0 +1,13 @@
+package io.kestra.plugin.airbyte.models;
+
+import lombok.Value;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Jacksonized
+@SuperBuilder
+public class StreamState {
+    StreamDescriptor streamDescriptor;
+    Object streamState;
+}
@@ -0,0 +1,747 @@
+package io.kestra.plugin.airbyte;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.airbyte.models.JobStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * In-process stand-in for the Airbyte OSS ({@code /api/v1}) and Cloud ({@code /v1}) APIs.
+ * <p>
+ * Jobs run for a configurable duration, grow their logs on every poll and can randomly answer with
+ * 409, 429 or 5xx errors, so tasks can be exercised at scale without a real Airbyte instance.
+ */
+public class AirbyteApiSimulator implements AutoCloseable {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+    private static final List<String> SOURCE_TYPES = List.of("Postgres", "Stripe", "HubSpot");
+
+    @Getter
+    private final Options options;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong jobSequence = new AtomicLong(1);
+    private final Map<Long, SimulatedJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Long> runningByConnection = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> callsByEndpoint = new ConcurrentHashMap<>();
+    private final LongAdder injectedFailures = new LongAdder();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+
+    private AirbyteApiSimulator(Options options) throws IOException {
+        this.options = options;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    public static AirbyteApiSimulator start() throws IOException {
+        return new AirbyteApiSimulator(Options.builder().build());
+    }
+
+    public static AirbyteApiSimulator start(Options options) throws IOException {
+        return new AirbyteApiSimulator(options);
+    }
+
+    /**
+     * Base URL to use as the OSS {@code url} property.
+     */
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Base URL of the simulated Cloud API, including the {@code /v1} prefix.
+     */
+    public String cloudUrl() {
+        return url() + "/v1";
+    }
+
+    public long calls() {
+        return callsByEndpoint.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long calls(String endpoint) {
+        LongAdder adder = callsByEndpoint.get(endpoint);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public Map<String, Long> callsByEndpoint() {
+        Map<String, Long> result = new TreeMap<>();
+        callsByEndpoint.forEach((endpoint, adder) -> result.put(endpoint, adder.sum()));
+        return result;
+    }
+
+    /**
+     * {@code Authorization} header of each request, in arrival order, empty when missing.
+     */
+    public List<String> authorizations() {
+        return List.copyOf(authorizations);
+    }
+
+    public long injectedFailures() {
+        return injectedFailures.sum();
+    }
+
+    /**
+     * Connection of each job, in creation order.
+     */
+    public List<String> jobConnections() {
+        return jobs.values().stream()
+            .sorted(Comparator.comparingLong((SimulatedJob job) -> job.id))
+            .map(job -> job.connectionId)
+            .toList();
+    }
+
+    /**
+     * Body of the webhook notification Airbyte posts once the job ended, as a Kestra webhook trigger exposes it.
+     */
+    public Map<String, Object> notification(long jobId) {
+        SimulatedJob job = jobs.get(jobId);
+        return Map.of(
+            "data", Map.of(
+                "workspace", Map.of("id", "simulated-workspace"),
+                "connection", Map.of("id", job.connectionId, "name", job.connectionId),
+                "jobId", job.id,
+                "startedAt", job.createdAt.toString(),
+                "finishedAt", job.endsAt.toString(),
+                "success", options.finalStatus == JobStatus.SUCCEEDED
+            )
+        );
+    }
+
+    public int jobCount() {
+        return jobs.size();
+    }
+
+    /**
+     * Number of log lines (or events) generated so far for the attempts of a job.
+     */
+    public int[] logLines(long jobId) {
+        return jobs.get(jobId).logLines.clone();
+    }
+
+    /**
+     * Delay between the simulated end of each job and the first poll that observed its terminal state.
+     * Jobs whose terminal state was never fetched are left out.
+     */
+    public List<Duration> detectionLags() {
+        return jobs.values().stream()
+            .filter(job -> job.terminalServedAt != null)
+            .map(job -> Duration.between(job.endsAt, job.terminalServedAt))
+            .toList();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath().replaceAll("/+$", "");
+            String endpoint = method + " " + path.replaceAll("/\\d+$", "/{id}");
+            callsByEndpoint.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+            authorizations.add(Objects.requireNonNullElse(exchange.getRequestHeaders().getFirst("Authorization"), ""));
+
+            if (!options.latency.isZero()) {
+                Thread.sleep(options.latency.toMillis());
+            }
+
+            Map<String, Object> body = readBody(exchange.getRequestBody());
+
+            if (!path.endsWith("/applications/token")) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                if (random.nextDouble() < options.rateLimitRate) {
+                    injectedFailures.increment();
+                    respond(exchange, 429, Map.of("message", "Too many requests"));
+                    return;
+                }
+                if (random.nextDouble() < options.serverErrorRate) {
+                    injectedFailures.increment();
+                    respond(exchange, 503, Map.of("message", "Service unavailable"));
+                    return;
+                }
+            }
+
+            switch (endpoint) {
+                case "POST /api/v1/applications/token", "POST /v1/applications/token" -> respond(exchange, 200, Map.of(
+                    "access_token", options.accessToken,
+                    "token_type", "Bearer",
+                    "expires_in", 180
+                ));
+                case "POST /api/v1/connections/sync" -> ossSync(exchange, (String) body.get("connectionId"));
+                case "POST /api/v1/jobs/get" -> ossGet(exchange, ((Number) body.get("id")).longValue());
+                case "POST /api/v1/jobs/list" -> ossList(exchange, body);
+                case "GET /api/v1/health" -> respond(exchange, 200, Map.of("available", true));
+                case "POST /api/v1/jobs/list_for_workspaces" -> {
+                    if (!(body.get("workspaceIds") instanceof List<?> workspaceIds) || workspaceIds.isEmpty()) {
+                        respond(exchange, 422, Map.of("message", "workspaceIds is required"));
+                    } else {
+                        ossList(exchange, body);
+                    }
+                }
+                case "POST /api/v1/workspaces/list" -> respond(exchange, 200, Map.of("workspaces", List.of(Map.of("workspaceId", "workspace", "name", "Default Workspace"))));
+                case "POST /api/v1/jobs/get_without_logs" -> ossGetWithoutLogs(exchange, ((Number) body.get("id")).longValue());
+                case "POST /api/v1/connections/list" -> respond(exchange, 200, Map.of("connections", connections((String) body.get("workspaceId"))));
+                case "POST /api/v1/sources/list" -> respond(exchange, 200, Map.of("sources", sources((String) body.get("workspaceId"))));
+                case "POST /api/v1/connections/reset/stream" -> ossReset(exchange, body, "reset_connection");
+                case "POST /api/v1/connections/clear/stream" -> ossReset(exchange, body, "clear");
+                case "POST /api/v1/connections/get" -> respond(exchange, 200, Map.of(
+                    "connectionId", body.get("connectionId"),
+                    "name", "connection " + body.get("connectionId"),
+                    "workspaceId", "workspace",
+                    "sourceId", "source-" + body.get("connectionId"),
+                    "destinationId", "destination-" + body.get("connectionId"),
+                    "status", "active"
+                ));
+                case "POST /api/v1/sources/check_connection" -> check(exchange, "source");
+                case "POST /api/v1/destinations/check_connection" -> check(exchange, "destination");
+                case "POST /api/v1/state/get" -> ossState(exchange, (String) body.get("connectionId"));
+                case "POST /v1/jobs" -> cloudCreate(exchange, (String) body.get("connectionId"), (String) body.get("jobType"));
+                case "GET /v1/jobs/{id}" -> cloudGet(exchange, Long.parseLong(path.substring(path.lastIndexOf('/') + 1)));
+                case "GET /v1/jobs" -> cloudList(exchange, query(exchange.getRequestURI().getRawQuery()));
+                default -> respond(exchange, 404, Map.of("message", "Unknown endpoint " + endpoint));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void ossSync(HttpExchange exchange, String connectionId) throws IOException {
+        Optional<SimulatedJob> job = create(connectionId, "sync");
+        if (job.isEmpty()) {
+            respond(exchange, 409, Map.of("message", "A sync is already running for connection " + connectionId));
+            return;
+        }
+
+        respond(exchange, 200, Map.of("job", ossJob(job.get(), Instant.now()), "attempts", List.of()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void ossReset(HttpExchange exchange, Map<String, Object> body, String jobType) throws IOException {
+        String connectionId = (String) body.get("connectionId");
+        Optional<SimulatedJob> job = create(connectionId, jobType);
+        if (job.isEmpty()) {
+            respond(exchange, 409, Map.of("message", "A sync is already running for connection " + connectionId));
+            return;
+        }
+
+        job.get().streams = ((List<Map<String, Object>>) body.getOrDefault("streams", List.of())).stream()
+            .map(stream -> (String) stream.get("streamName"))
+            .toList();
+
+        respond(exchange, 200, Map.of("job", ossJob(job.get(), Instant.now()), "attempts", List.of()));
+    }
+
+    private void ossGet(HttpExchange exchange, long id) throws IOException {
+        SimulatedJob job = jobs.get(id);
+        if (job == null) {
+            respond(exchange, 404, Map.of("message", "Job " + id + " not found"));
+            return;
+        }
+
+        Instant now = Instant.now();
+        job.poll(now);
+
+        respond(exchange, 200, Map.of("job", ossJob(job, now), "attempts", job.attempts(now, true)));
+    }
+
+    private void ossGetWithoutLogs(HttpExchange exchange, long id) throws IOException {
+        SimulatedJob job = jobs.get(id);
+        if (job == null) {
+            respond(exchange, 404, Map.of("message", "Job " + id + " not found"));
+            return;
+        }
+
+        Instant now = Instant.now();
+        job.poll(now);
+
+        respond(exchange, 200, Map.of("job", ossJob(job, now), "attempts", job.attempts(now, false)));
+    }
+
+    /**
+     * {@link Options#connections} connections named {@code connection-<i>}, tagged {@code nightly} (even) or
+     * {@code hourly} (odd), inactive every 10th, reading from 3 sources of different types.
+     */
+    private List<Map<String, Object>> connections(String workspaceId) {
+        List<Map<String, Object>> connections = new ArrayList<>(options.connections);
+        for (int i = 0; i < options.connections; i++) {
+            connections.add(Map.of(
+                "connectionId", "connection-" + i,
+                "name", "connection-" + i,
+                "workspaceId", workspaceId,
+                "sourceId", "source-" + (i % SOURCE_TYPES.size()),
+                "destinationId", "destination",
+                "status", i % 10 == 9 ? "inactive" : "active",
+                "tags", List.of(Map.of("tagId", "tag-" + (i % 2), "name", i % 2 == 0 ? "nightly" : "hourly"))
+            ));
+        }
+        return connections;
+    }
+
+    private List<Map<String, Object>> sources(String workspaceId) {
+        List<Map<String, Object>> sources = new ArrayList<>(SOURCE_TYPES.size());
+        for (int i = 0; i < SOURCE_TYPES.size(); i++) {
+            sources.add(Map.of(
+                "sourceId", "source-" + i,
+                "name", SOURCE_TYPES.get(i) + " source",
+                "sourceName", SOURCE_TYPES.get(i),
+                "workspaceId", workspaceId
+            ));
+        }
+        return sources;
+    }
+
+    /**
+     * Jobs of the connection, or of every connection for {@code list_for_workspaces} since all the simulated connections
+     * belong to the same workspace. Sorted by job ID or {@code updatedAt}, descending unless {@code orderByMethod} is {@code ASC}.
+     */
+    @SuppressWarnings("unchecked")
+    private void ossList(HttpExchange exchange, Map<String, Object> body) throws IOException {
+        String configId = (String) body.get("configId");
+        List<String> configTypes = (List<String>) body.get("configTypes");
+        List<String> statuses = (List<String>) body.get("statuses");
+        Instant updatedAtStart = body.get("updatedAtStart") == null ? null : Instant.parse((String) body.get("updatedAtStart"));
+        Map<String, Object> pagination = (Map<String, Object>) body.getOrDefault("pagination", Map.of());
+        int pageSize = ((Number) pagination.getOrDefault("pageSize", 200)).intValue();
+        int rowOffset = ((Number) pagination.getOrDefault("rowOffset", 0)).intValue();
+
+        Instant now = Instant.now();
+        Comparator<SimulatedJob> order = "updatedAt".equals(body.get("orderByField")) ?
+            Comparator.comparingLong((SimulatedJob job) -> updatedAt(job, now).getEpochSecond()).thenComparingLong(job -> job.id) :
+            Comparator.comparingLong((SimulatedJob job) -> job.id);
+        if (!"ASC".equals(body.get("orderByMethod"))) {
+            order = order.reversed();
+        }
+
+        List<SimulatedJob> matching = jobs.values().stream()
+            .filter(job -> configId == null || configId.equals(job.connectionId))
+            .filter(job -> configTypes == null || configTypes.contains(ossJob(job, now).get("configType")))
+            .filter(job -> statuses == null || statuses.contains(job.status(now).toString()))
+            .filter(job -> updatedAtStart == null || updatedAt(job, now).getEpochSecond() >= updatedAtStart.getEpochSecond())
+            .sorted(order)
+            .toList();
+
+        List<Map<String, Object>> page = matching.stream()
+            .skip(rowOffset)
+            .limit(pageSize)
+            .map(job -> Map.<String, Object>of(
+                "job", ossJob(job, now),
+                "attempts", job.attempts(now, false).stream().map(attempt -> attempt.get("attempt")).toList()
+            ))
+            .toList();
+
+        respond(exchange, 200, Map.of("jobs", page, "totalJobCount", matching.size()));
+    }
+
+    /**
+     * Per-stream state with one database-like cursor per stream, the last stream using the shorter API-source form.
+     */
+    private void ossState(HttpExchange exchange, String connectionId) throws IOException {
+        List<Map<String, Object>> streamStates = new ArrayList<>(options.streams);
+        for (int stream = 0; stream < options.streams; stream++) {
+            Map<String, Object> state = stream == options.streams - 1 ?
+                Map.of("updated_at", "2024-01-01T00:00:0" + (stream % 10) + "Z") :
+                Map.of("cursor", String.valueOf(stream * 100), "cursor_field", List.of("id"), "cursor_record_count", 1);
+
+            streamStates.add(Map.of(
+                "streamDescriptor", Map.of("name", "stream_" + stream, "namespace", "public"),
+                "streamState", state
+            ));
+        }
+
+        respond(exchange, 200, Map.of("stateType", "stream", "connectionId", connectionId, "streamState", streamStates));
+    }
+
+    private void check(HttpExchange exchange, String kind) throws IOException {
+        boolean failed = options.failingChecks.contains(kind);
+
+        respond(exchange, 200, Map.of(
+            "status", failed ? "failed" : "succeeded",
+            "message", failed ? "Invalid credentials for the " + kind : ""
+        ));
+    }
+
+    private void cloudCreate(HttpExchange exchange, String connectionId, String jobType) throws IOException {
+        Optional<SimulatedJob> job = create(connectionId, jobType == null ? "sync" : jobType);
+        if (job.isEmpty()) {
+            respond(exchange, 409, Map.of("message", "A sync is already running for connection " + connectionId));
+            return;
+        }
+
+        respond(exchange, 200, cloudJob(job.get(), Instant.now()));
+    }
+
+    private void cloudGet(HttpExchange exchange, long id) throws IOException {
+        SimulatedJob job = jobs.get(id);
+        if (job == null) {
+            respond(exchange, 404, Map.of("message", "Job " + id + " not found"));
+            return;
+        }
+
+        Instant now = Instant.now();
+        job.poll(now);
+
+        respond(exchange, 200, cloudJob(job, now));
+    }
+
+    private void cloudList(HttpExchange exchange, Map<String, String> query) throws IOException {
+        String connectionId = query.get("connectionId");
+        String jobType = query.get("jobType");
+        String status = query.get("status");
+        int limit = Integer.parseInt(query.getOrDefault("limit", "20"));
+        int offset = Integer.parseInt(query.getOrDefault("offset", "0"));
+
+        Instant now = Instant.now();
+        List<SimulatedJob> matching = jobs.values().stream()
+            .filter(job -> connectionId == null || connectionId.equals(job.connectionId))
+            .filter(job -> jobType == null || jobType.equals(job.jobType))
+            .filter(job -> status == null || status.equals(job.status(now).toString()))
+            .sorted(Comparator.comparingLong((SimulatedJob job) -> job.id).reversed())
+            .toList();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("data", matching.stream().skip(offset).limit(limit).map(job -> cloudJob(job, now)).toList());
+        if (offset + limit < matching.size()) {
+            response.put("next", cloudUrl() + "/jobs?limit=" + limit + "&offset=" + (offset + limit));
+        }
+
+        respond(exchange, 200, response);
+    }
+
+    private Optional<SimulatedJob> create(String connectionId, String jobType) {
+        if (ThreadLocalRandom.current().nextDouble() < options.conflictRate) {
+            injectedFailures.increment();
+            return Optional.empty();
+        }
+
+        Instant now = Instant.now();
+        SimulatedJob job = new SimulatedJob(jobSequence.getAndIncrement(), connectionId, jobType, now);
+
+        jobs.put(job.id, job);
+
+        // only one running job per connection, as Airbyte does
+        long owner = runningByConnection.compute(connectionId, (key, running) ->
+            running != null && jobs.get(running).status(now) == JobStatus.RUNNING ? running : job.id
+        );
+        if (owner != job.id) {
+            jobs.remove(job.id);
+            return Optional.empty();
+        }
+
+        return Optional.of(job);
+    }
+
+    private static Instant updatedAt(SimulatedJob job, Instant now) {
+        return now.isBefore(job.endsAt) ? now : job.endsAt;
+    }
+
+    private Map<String, Object> ossJob(SimulatedJob job, Instant now) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("id", job.id);
+        result.put("configType", job.jobType.equals("sync") || job.jobType.equals("clear") ? job.jobType : "reset_connection");
+        result.put("configId", job.connectionId);
+        if (job.streams != null) {
+            result.put("resetConfig", Map.of(
+                "streamsToReset", job.streams.stream().map(stream -> Map.of("name", stream)).toList()
+            ));
+        }
+        result.put("createdAt", job.createdAt.getEpochSecond());
+        result.put("updatedAt", updatedAt(job, now).getEpochSecond());
+        result.put("status", job.status(now).toString());
+        return result;
+    }
+
+    private Map<String, Object> cloudJob(SimulatedJob job, Instant now) {
+        JobStatus status = job.status(now);
+        Instant updatedAt = now.isBefore(job.endsAt) ? now : job.endsAt;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("jobId", job.id);
+        result.put("status", status.toString());
+        result.put("jobType", job.jobType);
+        result.put("connectionId", job.connectionId);
+        result.put("startTime", job.createdAt.toString());
+        result.put("lastUpdatedAt", updatedAt.toString());
+        result.put("duration", Duration.between(job.createdAt, updatedAt).toString());
+        if (status != JobStatus.RUNNING) {
+            result.put("bytesSynced", options.streams * 1024L);
+            result.put("rowsSynced", options.streams * 100L);
+        }
+        return result;
+    }
+
+    private static Map<String, Object> readBody(InputStream inputStream) throws IOException {
+        byte[] bytes = inputStream.readAllBytes();
+        if (bytes.length == 0) {
+            return Map.of();
+        }
+
+        return MAPPER.readValue(bytes, JacksonMapper.MAP_TYPE_REFERENCE);
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> result = new HashMap<>();
+        if (rawQuery == null) {
+            return result;
+        }
+
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                result.put(
+                    URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8)
+                );
+            }
+        }
+
+        return result;
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private final class SimulatedJob {
+        private final long id;
+        private final String connectionId;
+        private final String jobType;
+        private final Instant createdAt;
+        private final Instant endsAt;
+        private final int[] logLines;
+        private final AtomicInteger polls = new AtomicInteger();
+        private volatile Instant terminalServedAt;
+        // streams selected by a per-stream reset or clear, all the streams otherwise
+        private volatile List<String> streams;
+
+        private SimulatedJob(long id, String connectionId, String jobType, Instant createdAt) {
+            this.id = id;
+            this.connectionId = connectionId;
+            this.jobType = jobType;
+            this.createdAt = createdAt;
+            this.endsAt = createdAt.plus(options.jobDurations.getOrDefault(connectionId, options.jobDuration));
+            this.logLines = new int[Math.max(1, options.attempts)];
+        }
+
+        private JobStatus status(Instant now) {
+            return now.isBefore(endsAt) ? JobStatus.RUNNING : options.finalStatus;
+        }
+
+        private int currentAttempt(Instant now) {
+            if (!now.isBefore(endsAt)) {
+                return logLines.length - 1;
+            }
+
+            long elapsed = Duration.between(createdAt, now).toMillis();
+            long slice = Math.max(1, Duration.between(createdAt, endsAt).toMillis() / logLines.length);
+            return (int) Math.min(logLines.length - 1, elapsed / slice);
+        }
+
+        private synchronized void poll(Instant now) {
+            polls.incrementAndGet();
+
+            if (status(now) == JobStatus.RUNNING) {
+                logLines[currentAttempt(now)] += options.logLinesPerPoll;
+            } else if (terminalServedAt == null) {
+                terminalServedAt = now;
+            }
+        }
+
+        private synchronized List<Map<String, Object>> attempts(Instant now, boolean withLogs) {
+            int current = currentAttempt(now);
+            boolean ended = status(now) != JobStatus.RUNNING;
+            List<Map<String, Object>> attempts = new ArrayList<>();
+
+            for (int index = 0; index <= current; index++) {
+                String status = index < current ? "failed" : !ended ? "running" : options.finalStatus == JobStatus.SUCCEEDED ? "succeeded" : "failed";
+
+                Map<String, Object> attempt = new LinkedHashMap<>();
+                attempt.put("id", index);
+                attempt.put("status", status);
+                attempt.put("createdAt", createdAt.getEpochSecond());
+                attempt.put("updatedAt", now.getEpochSecond());
+                if (!status.equals("running")) {
+                    attempt.put("endedAt", now.getEpochSecond());
+                    attempt.put("streamStats", streamStats());
+                }
+                if (status.equals("failed")) {
+                    attempt.put("failureSummary", Map.of(
+                        "failures", List.of(Map.of(
+                            "failureOrigin", "source",
+                            "failureType", "system_error",
+                            "externalMessage", "Simulated failure of attempt " + index,
+                            "retryable", true
+                        )),
+                        "partialSuccess", false
+                    ));
+                }
+
+                Map<String, Object> info = new LinkedHashMap<>();
+                info.put("attempt", attempt);
+                if (withLogs) {
+                    info.put("logs", options.structuredLogs ?
+                        Map.of("logLines", List.of(), "events", events(index, logLines[index])) :
+                        Map.of("logLines", logLines(index, logLines[index]))
+                    );
+                }
+                attempts.add(info);
+            }
+
+            return attempts;
+        }
+
+        /**
+         * Structured events, newest first and limited to the last {@link Options#maxEvents}, to exercise the
+         * deduplication of reordered and truncated logs.
+         */
+        private List<Map<String, Object>> events(int attempt, int count) {
+            List<Map<String, Object>> events = new ArrayList<>(count);
+            for (int line = count - 1; line >= Math.max(0, count - options.maxEvents); line--) {
+                events.add(Map.of(
+                    "timestamp", createdAt.toEpochMilli() + attempt * 1_000_000L + line,
+                    "level", line % 50 == 49 ? "ERROR" : "INFO",
+                    "logSource", line % 2 == 0 ? "platform" : "source",
+                    "message", "job " + id + " attempt " + attempt + " event " + line
+                ));
+            }
+            return events;
+        }
+
+        private List<Map<String, Object>> streamStats() {
+            List<String> names = streams;
+            if (names == null) {
+                names = new ArrayList<>(options.streams);
+                for (int stream = 0; stream < options.streams; stream++) {
+                    names.add("stream_" + stream);
+                }
+            }
+
+            List<Map<String, Object>> stats = new ArrayList<>(names.size());
+            for (String name : names) {
+                stats.add(Map.of(
+                    "streamName", name,
+                    "stats", Map.of(
+                        "recordsEmitted", 100L,
+                        "recordsCommitted", 100L,
+                        "bytesEmitted", 1024L,
+                        "stateMessagesEmitted", 1L
+                    )
+                ));
+            }
+            return stats;
+        }
+
+        private List<String> logLines(int attempt, int count) {
+            List<String> lines = new ArrayList<>(count);
+            for (int line = 0; line < count; line++) {
+                String level = line % 50 == 49 ? "ERROR" : line % 5 == 4 ? "DEBUG" : "INFO";
+                lines.add(createdAt + " replication-orchestrator > \u001b[32m" + level + "\u001b[m job " + id + " attempt " + attempt + " line " + line);
+            }
+            return lines;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Options {
+        /**
+         * How long each job stays {@code running} before reaching {@link #finalStatus}.
+         */
+        @Builder.Default
+        private Duration jobDuration = Duration.ofSeconds(2);
+
+        /**
+         * Per-connection overrides of {@link #jobDuration}.
+         */
+        @Builder.Default
+        private Map<String, Duration> jobDurations = Map.of();
+
+        /**
+         * Number of attempts per job; every attempt but the last one fails.
+         */
+        @Builder.Default
+        private int attempts = 1;
+
+        /**
+         * Number of log lines added to the running attempt on each {@code jobs/get} poll.
+         */
+        @Builder.Default
+        private int logLinesPerPoll = 10;
+
+        /**
+         * Return structured {@code events} instead of raw {@code logLines}.
+         */
+        @Builder.Default
+        private boolean structuredLogs = false;
+
+        @Builder.Default
+        private int maxEvents = 500;
+
+        @Builder.Default
+        private JobStatus finalStatus = JobStatus.SUCCEEDED;
+
+        @Builder.Default
+        private int streams = 3;
+
+        /**
+         * Number of connections listed in the workspace.
+         */
+        @Builder.Default
+        private int connections = 10;
+
+        /**
+         * Kinds of connection checks ({@code source}, {@code destination}) that fail.
+         */
+        @Builder.Default
+        private Set<String> failingChecks = Set.of();
+
+        /**
+         * Probability that a job creation answers 409, in addition to the real conflicts on running connections.
+         */
+        @Builder.Default
+        private double conflictRate = 0;
+
+        @Builder.Default
+        private double rateLimitRate = 0;
+
+        @Builder.Default
+        private double serverErrorRate = 0;
+
+        @Builder.Default
+        private Duration latency = Duration.ZERO;
+
+        @Builder.Default
+        private String accessToken = "simulated-token";
+    }
+}
@@ -0,0 +1,68 @@
+package io.kestra.plugin.airbyte;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class MetadataCacheTest {
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Test
+    void readThrough() throws Exception {
+        MetadataCache cache = new MetadataCache(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            String value = cache.get("http://a", "token-a", "connection", "c1", TTL, 10, String.class, () -> "v" + loads.incrementAndGet());
+            assertThat(value, is("v1"));
+        }
+
+        // same ID on another instance is another entry
+        assertThat(cache.get("http://b", "token-a", "connection", "c1", TTL, 10, String.class, () -> "v" + loads.incrementAndGet()), is("v2"));
+
+        // same ID read with other credentials is another entry
+        assertThat(cache.get("http://a", "token-b", "connection", "c1", TTL, 10, String.class, () -> "v" + loads.incrementAndGet()), is("v3"));
+        assertThat(cache.size(), is(3));
+
+        // expired
+        assertThat(cache.get("http://a", "token-a", "connection", "c1", Duration.ofNanos(1), 10, String.class, () -> "v" + loads.incrementAndGet()), is("v4"));
+    }
+
+    @Test
+    void leastRecentlyUsedEviction() throws Exception {
+        MetadataCache cache = new MetadataCache(2);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("http://a", "token-a", "connection", "c1", TTL, 2, String.class, () -> "c1-" + loads.incrementAndGet());
+        cache.get("http://a", "token-a", "connection", "c2", TTL, 2, String.class, () -> "c2-" + loads.incrementAndGet());
+        // touch c1 so c2 is the eldest
+        cache.get("http://a", "token-a", "connection", "c1", TTL, 2, String.class, () -> "c1-" + loads.incrementAndGet());
+        cache.get("http://a", "token-a", "connection", "c3", TTL, 2, String.class, () -> "c3-" + loads.incrementAndGet());
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get("http://a", "token-a", "connection", "c1", TTL, 2, String.class, () -> "c1-" + loads.incrementAndGet()), is("c1-1"));
+        assertThat(cache.get("http://a", "token-a", "connection", "c2", TTL, 2, String.class, () -> "c2-" + loads.incrementAndGet()), is("c2-4"));
+    }
+
+    @Test
+    void smallerSizeDoesNotEvict() throws Exception {
+        MetadataCache cache = new MetadataCache(3);
+
+        for (String id : new String[]{"c1", "c2", "c3"}) {
+            cache.get("http://a", "token-a", "connection", id, TTL, 3, String.class, () -> id);
+        }
+
+        // another task asking for a single entry keeps the others cached
+        cache.get("http://a", "token-b", "connection", "c4", TTL, 1, String.class, () -> "c4");
+        assertThat(cache.size(), is(3));
+
+        // a larger bound is kept for everyone
+        cache.get("http://a", "token-a", "connection", "c5", TTL, 5, String.class, () -> "c5");
+        cache.get("http://a", "token-a", "connection", "c6", TTL, 1, String.class, () -> "c6");
+        assertThat(cache.size(), is(5));
+    }
+}
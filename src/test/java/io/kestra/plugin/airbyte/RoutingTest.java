@@ -0,0 +1,123 @@
+package io.kestra.plugin.airbyte;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.connections.Sync;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class RoutingTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void pinnedJobPolledOnItsInstance() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(300))
+            .build();
+
+        try (AirbyteApiSimulator first = AirbyteApiSimulator.start(options);
+             AirbyteApiSimulator second = AirbyteApiSimulator.start(options)) {
+            List<String> urls = List.of(first.url(), second.url());
+
+            for (String connectionId : List.of("orders", "customers", "invoices", "payments")) {
+                String owner = Rendezvous.rank(urls, connectionId).getFirst();
+
+                Sync sync = Sync.builder()
+                    .urls(Property.ofValue(urls))
+                    .connectionId(Property.ofValue(connectionId))
+                    .pollFrequency(Property.ofValue(Duration.ofMillis(50)))
+                    .build();
+
+                Sync.Output output = sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+                assertThat(output.getUrl(), is(owner));
+            }
+
+            // every job polled only where it was created
+            for (AirbyteApiSimulator simulator : List.of(first, second)) {
+                assertThat(simulator.calls("POST /api/v1/jobs/get") > 0, is(simulator.jobCount() > 0));
+            }
+            assertThat(first.jobCount() + second.jobCount(), is(4));
+            assertThat(Rendezvous.rank(urls, "orders"), is(Rendezvous.rank(List.of(second.url(), first.url()), "orders")));
+        }
+    }
+
+    @Test
+    void leastQueued() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofSeconds(30))
+            .build();
+
+        try (AirbyteApiSimulator busy = AirbyteApiSimulator.start(options);
+             AirbyteApiSimulator idle = AirbyteApiSimulator.start(options)) {
+            for (String connectionId : List.of("orders", "customers")) {
+                Sync sync = Sync.builder()
+                    .url(Property.ofValue(busy.url()))
+                    .connectionId(Property.ofValue(connectionId))
+                    .wait(Property.ofValue(false))
+                    .build();
+                sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+            }
+
+            Sync sync = Sync.builder()
+                .urls(Property.ofValue(List.of(busy.url(), idle.url())))
+                .routing(Property.ofValue(RoutingPolicy.LEAST_QUEUED))
+                .connectionId(Property.ofValue("invoices"))
+                .wait(Property.ofValue(false))
+                .build();
+
+            Sync.Output output = sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+
+            assertThat(output.getUrl(), is(idle.url()));
+            assertThat(idle.jobConnections(), contains("invoices"));
+            assertThat(busy.calls("POST /api/v1/workspaces/list"), is(1L));
+            assertThat(busy.calls("POST /api/v1/jobs/list_for_workspaces"), is(1L));
+
+            // the workspaces come from the metadata cache, the job count is always requested
+            Sync next = Sync.builder()
+                .urls(Property.ofValue(List.of(busy.url(), idle.url())))
+                .routing(Property.ofValue(RoutingPolicy.LEAST_QUEUED))
+                .connectionId(Property.ofValue("payments"))
+                .wait(Property.ofValue(false))
+                .build();
+            next.run(TestsUtils.mockRunContext(runContextFactory, next, Map.of()));
+
+            assertThat(busy.calls("POST /api/v1/workspaces/list"), is(1L));
+            assertThat(busy.calls("POST /api/v1/jobs/list_for_workspaces"), is(2L));
+        }
+    }
+
+    @Test
+    void failoverSkipsUnreachableInstance() throws Exception {
+        AirbyteApiSimulator down = AirbyteApiSimulator.start();
+        String downUrl = down.url();
+        down.close();
+
+        try (AirbyteApiSimulator up = AirbyteApiSimulator.start()) {
+            Sync sync = Sync.builder()
+                .urls(Property.ofValue(List.of(downUrl, up.url())))
+                .routing(Property.ofValue(RoutingPolicy.FAILOVER))
+                .connectionId(Property.ofValue("orders"))
+                .wait(Property.ofValue(false))
+                .build();
+
+            Sync.Output output = sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+
+            assertThat(output.getUrl(), is(up.url()));
+            assertThat(up.calls("GET /api/v1/health"), is(1L));
+            assertThat(up.jobCount(), is(1));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.kestra.plugin.airbyte.cloud;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.ssl.SSLSession;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class AirbyteCloudExceptionTest {
+    @Test
+    void problemJson() throws Exception {
+        String body = "{\"type\":\"https://reference.airbyte.com/reference/errors#forbidden\",\"title\":\"forbidden\",\"detail\":\"Caller does not have access to the connection\",\"status\":403}";
+        Response response = new Response(403, body.getBytes(StandardCharsets.UTF_8));
+
+        AirbyteCloudException exception = AirbyteCloudException.of(response, 1024);
+
+        assertThat(exception.getStatusCode(), is(403));
+        assertThat(exception.getTitle(), is("forbidden"));
+        assertThat(exception.getDetail(), is("Caller does not have access to the connection"));
+        assertThat(exception.getType(), is("https://reference.airbyte.com/reference/errors#forbidden"));
+        assertThat(exception.getOmittedBytes(), is(0L));
+        assertThat(exception.getMessage(), is("Failed request with status 403: forbidden - Caller does not have access to the connection"));
+        assertThat(response.closed.get(), is(true));
+    }
+
+    @Test
+    void truncatedAndDrained() throws Exception {
+        Response response = new Response(502, ("<html>" + "x".repeat(100_000) + "</html>").getBytes(StandardCharsets.UTF_8));
+
+        AirbyteCloudException exception = AirbyteCloudException.of(response, 100);
+
+        assertThat(exception.getBody().length(), is(100));
+        assertThat(exception.getOmittedBytes(), is(100_013L - 100));
+        assertThat(exception.isDrained(), is(true));
+        assertThat(exception.getTitle(), nullValue());
+        assertThat(exception.getMessage(), containsString("(99913 more bytes)"));
+        assertThat(response.remaining(), is(0));
+        assertThat(response.closed.get(), is(true));
+    }
+
+    @Test
+    void notDrainedBeyondLimit() throws Exception {
+        Response response = new Response(500, new byte[(int) AirbyteCloudException.MAX_DRAIN + 1_000]);
+
+        AirbyteCloudException exception = AirbyteCloudException.of(response, 10);
+
+        assertThat(exception.isDrained(), is(false));
+        assertThat(exception.getMessage(), containsString("more than " + AirbyteCloudException.MAX_DRAIN + " more bytes"));
+        assertThat(response.closed.get(), is(true));
+    }
+
+    private static class Response implements HttpResponse<InputStream> {
+        private final int statusCode;
+        private final ByteArrayInputStream body;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Response(int statusCode, byte[] body) {
+            this.statusCode = statusCode;
+            this.body = new ByteArrayInputStream(body) {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            };
+        }
+
+        int remaining() {
+            return body.available();
+        }
+
+        @Override
+        public int statusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public HttpRequest request() {
+            return HttpRequest.newBuilder(uri()).build();
+        }
+
+        @Override
+        public Optional<HttpResponse<InputStream>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return HttpHeaders.of(Map.of(), (name, value) -> true);
+        }
+
+        @Override
+        public InputStream body() {
+            return body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return URI.create("https://api.airbyte.com/v1/jobs");
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_2;
+        }
+    }
+}
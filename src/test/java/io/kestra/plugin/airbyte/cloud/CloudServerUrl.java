@@ -0,0 +1,20 @@
+package io.kestra.plugin.airbyte.cloud;
+
+/**
+ * Sends the requests of the cloud tasks to another server, e.g. {@link io.kestra.plugin.airbyte.AirbyteApiSimulator},
+ * until closed.
+ */
+public final class CloudServerUrl implements AutoCloseable {
+    private CloudServerUrl(String url) {
+        AbstractAirbyteCloud.serverUrlOverride = url;
+    }
+
+    public static CloudServerUrl override(String url) {
+        return new CloudServerUrl(url);
+    }
+
+    @Override
+    public void close() {
+        AbstractAirbyteCloud.serverUrlOverride = null;
+    }
+}
@@ -0,0 +1,50 @@
+package io.kestra.plugin.airbyte.cloud;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+@KestraTest
+class CustomHttpClientTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void bearerResolvedPerRequest() throws Exception {
+        AtomicInteger tokens = new AtomicInteger();
+        AbstractAirbyteCloud.CustomHttpClient client = new AbstractAirbyteCloud.CustomHttpClient(
+            runContextFactory.of(),
+            () -> "token-" + tokens.incrementAndGet()
+        );
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start()) {
+            // the header set once when the SDK client was built is replaced
+            HttpRequest request = HttpRequest.newBuilder(URI.create(simulator.cloudUrl() + "/jobs"))
+                .header("Authorization", "Bearer stale")
+                .GET()
+                .build();
+
+            for (int i = 0; i < 2; i++) {
+                HttpResponse<InputStream> response = client.send(request);
+                try (InputStream body = response.body()) {
+                    body.readAllBytes();
+                }
+            }
+
+            assertThat(simulator.authorizations(), contains("Bearer token-1", "Bearer token-2"));
+        }
+    }
+}
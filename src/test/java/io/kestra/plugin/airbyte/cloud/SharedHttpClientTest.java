@@ -0,0 +1,53 @@
+package io.kestra.plugin.airbyte.cloud;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class SharedHttpClientTest {
+    @Test
+    void boundedConcurrentRequests() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .latency(Duration.ofMillis(20))
+            .build();
+
+        SharedHttpClient client = new SharedHttpClient(4, Duration.ofSeconds(5));
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(simulator.cloudUrl() + "/jobs")).GET().build();
+
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> {
+                    HttpResponse<InputStream> response = client.send(request);
+                    try (InputStream body = response.body()) {
+                        body.readAllBytes();
+                    }
+                    return response.statusCode();
+                }));
+            }
+
+            for (Future<Integer> future : futures) {
+                assertThat(future.get(), is(200));
+            }
+
+            assertThat(simulator.calls("GET /v1/jobs"), is(100L));
+            assertThat(client.availablePermits(), is(4));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.kestra.plugin.airbyte.cloud;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class TokenCacheTest {
+    private static final String TOKEN_CALLS = "POST /v1/applications/token";
+
+    @Test
+    void exchangedOnceAndRefreshedAhead() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        TokenCache cache = new TokenCache(clock);
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(AirbyteApiSimulator.Options.builder().build());
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            String tokenUrl = simulator.cloudUrl() + "/applications/token";
+
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(executor.submit(() -> cache.token(tokenUrl, "client", "secret")));
+            }
+            for (Future<String> future : futures) {
+                assertThat(future.get(), is("simulated-token"));
+            }
+            assertThat(simulator.calls(TOKEN_CALLS), is(1L));
+
+            // another secret is another token
+            cache.token(tokenUrl, "client", "other-secret");
+            assertThat(simulator.calls(TOKEN_CALLS), is(2L));
+
+            // the simulator tokens expire in 180s, refreshed in the background during the last 36s
+            clock.advance(Duration.ofSeconds(100));
+            cache.token(tokenUrl, "client", "secret");
+            assertThat(simulator.calls(TOKEN_CALLS), is(2L));
+
+            clock.advance(Duration.ofSeconds(50));
+            assertThat(cache.token(tokenUrl, "client", "secret"), is("simulated-token"));
+            for (int i = 0; i < 50 && simulator.calls(TOKEN_CALLS) < 3L; i++) {
+                Thread.sleep(100);
+            }
+            assertThat(simulator.calls(TOKEN_CALLS), is(3L));
+
+            // served by the refreshed token, or the previous one while the refresh completes
+            clock.advance(Duration.ofSeconds(20));
+            cache.token(tokenUrl, "client", "secret");
+            assertThat(simulator.calls(TOKEN_CALLS), is(3L));
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
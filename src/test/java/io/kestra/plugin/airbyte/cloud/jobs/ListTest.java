@@ -0,0 +1,76 @@
+package io.kestra.plugin.airbyte.cloud.jobs;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.airbyte.api.models.shared.JobStatusEnum;
+import com.airbyte.api.models.shared.JobTypeEnum;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+import io.kestra.plugin.airbyte.cloud.CloudServerUrl;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class ListTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void pagesFilteredJobs() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(100))
+            .jobDurations(Map.of("slow", Duration.ofSeconds(30)))
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options);
+             CloudServerUrl ignored = CloudServerUrl.override(simulator.cloudUrl())) {
+            for (String connectionId : java.util.List.of("c1", "c2", "c3", "c4", "c5", "slow")) {
+                Sync sync = Sync.builder()
+                    .token(Property.ofValue("token"))
+                    .connectionId(Property.ofValue(connectionId))
+                    .wait(Property.ofValue(false))
+                    .build();
+                sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+            }
+
+            Thread.sleep(300);
+
+            List task = List.builder()
+                .token(Property.ofValue("token"))
+                .status(Property.ofValue(JobStatusEnum.SUCCEEDED))
+                .jobType(Property.ofValue(JobTypeEnum.SYNC))
+                .pageSize(Property.ofValue(2))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+            List.Output output = task.run(runContext);
+
+            // the running job is filtered out, the 5 others come in 3 pages
+            assertThat(output.getSize(), is(5L));
+            assertThat(output.getBytesSynced(), is(5 * options.getStreams() * 1024L));
+            assertThat(output.getRowsSynced(), is(5 * options.getStreams() * 100L));
+            assertThat(simulator.calls("GET /v1/jobs"), is(3L));
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri())))) {
+                java.util.List<Object> rows = FileSerde.readAll(reader).collectList().block();
+
+                assertThat(rows, hasSize(5));
+                assertThat(rows.stream().map(row -> ((Map<?, ?>) row).get("connectionId")).toList(), containsInAnyOrder("c1", "c2", "c3", "c4", "c5"));
+            }
+        }
+    }
+}
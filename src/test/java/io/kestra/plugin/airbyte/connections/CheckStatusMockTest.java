@@ -0,0 +1,243 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.AbstractMetricEntry;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+import io.kestra.plugin.airbyte.models.JobInfo;
+import io.kestra.plugin.airbyte.models.JobStatus;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class CheckStatusMockTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void storeLogs() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofSeconds(2))
+            .attempts(2)
+            .logLinesPerPoll(100)
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            Sync sync = Sync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("store-logs"))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(200)))
+                .logDestination(Property.ofValue(LogDestination.STORAGE))
+                .logTailLines(Property.ofValue(5))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, sync, Map.of());
+            Sync.Output output = sync.run(runContext);
+
+            assertThat(output.getAttemptLogs(), hasSize(2));
+
+            int[] generated = simulator.logLines(output.getJobId());
+            for (int attempt = 0; attempt < generated.length; attempt++) {
+                List<String> lines = readLines(runContext, output.getAttemptLogs().get(attempt));
+
+                // every line exactly once, none skipped between polls
+                assertThat(lines, hasSize(generated[attempt]));
+                assertThat(lines.getFirst(), containsString("replication-orchestrator"));
+                assertThat(lines.getLast(), endsWith("line " + (generated[attempt] - 1)));
+            }
+        }
+    }
+
+    @Test
+    void structuredLogs() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofSeconds(2))
+            .logLinesPerPoll(100)
+            .structuredLogs(true)
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            Sync sync = Sync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("structured-logs"))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(200)))
+                .structuredLogs(Property.ofValue(true))
+                .logDestination(Property.ofValue(LogDestination.STORAGE))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, sync, Map.of());
+            Sync.Output output = sync.run(runContext);
+
+            List<String> lines = readLines(runContext, output.getAttemptLogs().getFirst());
+
+            // events are served newest first and truncated, each one must still be forwarded exactly once and in order
+            assertThat(lines, hasSize(simulator.logLines(output.getJobId())[0]));
+            assertThat(lines.getFirst(), endsWith("event 0"));
+            assertThat(lines.getLast(), endsWith("event " + (lines.size() - 1)));
+            assertThat(lines.get(1), containsString(" source > "));
+        }
+    }
+
+    @Test
+    void compactFailure() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofSeconds(1))
+            .attempts(3)
+            .logLinesPerPoll(1_000)
+            .finalStatus(JobStatus.FAILED)
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            Sync sync = Sync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("failing"))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(100)))
+                .minLogLevel(Property.ofValue(Level.ERROR))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, sync, Map.of());
+            JobFailedException exception = assertThrows(JobFailedException.class, () -> sync.run(runContext));
+
+            assertThat(exception.getStatus(), is(JobStatus.FAILED));
+            assertThat(exception.getAttemptCount(), is(3));
+            assertThat(exception.getFailures(), hasSize(3));
+            assertThat(exception.getMessage(), startsWith("Failed run with status 'failed' after 3 attempt(s)"));
+            assertThat(exception.getMessage().length(), lessThan(2_000));
+
+            JobInfo details = JacksonMapper.ofJson().readValue(runContext.storage().getFile(exception.getDetails()), JobInfo.class);
+            assertThat(details.getAttempts(), hasSize(3));
+            assertThat(details.getAttempts().getFirst().getLogs().getLogLines(), not(empty()));
+        }
+    }
+
+    @Test
+    void topStreamMetrics() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofSeconds(1))
+            .attempts(2)
+            .streams(30)
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            Sync sync = Sync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("top-streams"))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(100)))
+                .streamMetrics(Property.ofValue(StreamMetrics.TOP_N))
+                .topStreams(Property.ofValue(5))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, sync, Map.of());
+            Sync.Output output = sync.run(runContext);
+
+            assertThat(output.getStreams(), hasSize(30));
+            assertThat(output.getStreams().getFirst().getRecordsCommitted(), is(200L));
+            assertThat(output.getChangedStreams(), hasSize(30));
+
+            List<AbstractMetricEntry<?>> committed = runContext.metrics().stream()
+                .filter(metric -> metric.getName().equals("records.committed"))
+                .toList();
+
+            // 5 streams and "other", with the stats of both attempts summed
+            assertThat(committed, hasSize(6));
+            assertThat(committed.stream().allMatch(metric -> metric.getTags().containsKey("stream")), is(true));
+            assertThat(
+                runContext.metrics().stream().filter(metric -> metric.getName().equals("records.committed.total")).findFirst().orElseThrow().getValue(),
+                is(6_000D)
+            );
+            assertThat(
+                committed.stream().filter(metric -> "other".equals(metric.getTags().get("stream"))).findFirst().orElseThrow().getValue(),
+                is(5_000D)
+            );
+        }
+    }
+
+    @Test
+    void reuseFreshSync() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(500))
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            Sync sync = Sync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("fresh"))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(100)))
+                .maxStaleness(Property.ofValue(Duration.ofHours(1)))
+                .build();
+
+            Sync.Output first = sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+            assertThat(first.getReused(), is(false));
+
+            Sync.Output second = sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+            assertThat(second.getReused(), is(true));
+            assertThat(second.getJobId(), is(first.getJobId()));
+            assertThat(second.getStreams(), hasSize(3));
+            assertThat(simulator.jobCount(), is(1));
+        }
+    }
+
+    @Test
+    void preflightCheck() throws Exception {
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(AirbyteApiSimulator.Options.builder().jobDuration(Duration.ofMillis(200)).build())) {
+            Sync sync = Sync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("checked-" + IdUtils.create()))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(100)))
+                .preflightCheck(Property.ofValue(true))
+                .build();
+
+            sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+            sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+
+            // the second sync reuses the cached checks
+            assertThat(simulator.jobCount(), is(2));
+            assertThat(simulator.calls("POST /api/v1/sources/check_connection"), is(1L));
+            assertThat(simulator.calls("POST /api/v1/destinations/check_connection"), is(1L));
+            assertThat(simulator.calls("POST /api/v1/connections/get"), is(1L));
+        }
+
+        AirbyteApiSimulator.Options failing = AirbyteApiSimulator.Options.builder().failingChecks(Set.of("destination")).build();
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(failing)) {
+            Sync sync = Sync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("expired-credentials"))
+                .preflightCheck(Property.ofValue(true))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, sync, Map.of());
+            PreflightCheckFailedException exception = assertThrows(PreflightCheckFailedException.class, () -> sync.run(runContext));
+
+            assertThat(exception.getMessage(), containsString("Invalid credentials for the destination"));
+            assertThat(simulator.jobCount(), is(0));
+        }
+    }
+
+    private static List<String> readLines(RunContext runContext, URI uri) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(runContext.storage().getFile(uri)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+import io.kestra.plugin.airbyte.models.JobStatus;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class DagSyncTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void dependenciesFirst() throws Exception {
+        // unique IDs, the job durations of previous runs are kept in the KV store
+        String orders = IdUtils.create();
+        String customers = IdUtils.create();
+        String marts = IdUtils.create();
+        String audit = IdUtils.create();
+
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(200))
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            DagSync task = DagSync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .nodes(Property.ofValue(List.of(
+                    DagSync.Node.builder().name("audit").connectionId(audit).build(),
+                    DagSync.Node.builder().name("marts").connectionId(marts).dependsOn(List.of("orders", customers)).build(),
+                    DagSync.Node.builder().name("orders").connectionId(orders).build(),
+                    DagSync.Node.builder().name("customers").connectionId(customers).build()
+                )))
+                .parallelism(Property.ofValue(2))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(50)))
+                .build();
+
+            DagSync.Output output = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+            assertThat(output.getNodes(), is(4));
+            assertThat(output.getSucceeded(), is(4));
+            assertThat(output.getSkipped(), is(0));
+
+            // the heads of the longest chain start first, marts once both ended
+            assertThat(simulator.jobConnections().subList(0, 2), containsInAnyOrder(orders, customers));
+            assertThat(simulator.jobConnections().indexOf(marts), greaterThan(simulator.jobConnections().indexOf(orders)));
+
+            DagSync.NodeResult martsResult = output.getResults().stream().filter(summary -> summary.getName().equals("marts")).findFirst().orElseThrow();
+            output.getResults().stream()
+                .filter(summary -> summary.getName().equals("orders") || summary.getName().equals("customers"))
+                .forEach(summary -> assertThat(martsResult.getStartedAt(), greaterThanOrEqualTo(summary.getEndedAt())));
+        }
+    }
+
+    @Test
+    void skippedAfterFailure() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(100))
+            .finalStatus(JobStatus.FAILED)
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            DagSync task = DagSync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .nodes(Property.ofValue(List.of(
+                    DagSync.Node.builder().connectionId("source").build(),
+                    DagSync.Node.builder().connectionId("first").dependsOn(List.of("source")).build(),
+                    DagSync.Node.builder().connectionId("second").dependsOn(List.of("first")).build()
+                )))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(50)))
+                .failOnJobFailure(Property.ofValue(false))
+                .build();
+
+            DagSync.Output output = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+            assertThat(output.getFailed(), is(1));
+            assertThat(output.getSkipped(), is(2));
+            assertThat(simulator.jobCount(), is(1));
+            assertThat(output.getResults().get(1).getError(), containsString("source"));
+        }
+    }
+
+    @Test
+    void partialSummaryOnTimeout() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(100))
+            .jobDurations(Map.of("slow", Duration.ofSeconds(30)))
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            DagSync task = DagSync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .nodes(Property.ofValue(List.of(
+                    DagSync.Node.builder().name("fast").connectionId("fast").build(),
+                    DagSync.Node.builder().name("slow").connectionId("slow").build()
+                )))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(50)))
+                .maxDuration(Property.ofValue(Duration.ofMillis(500)))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+            TimeoutException exception = assertThrows(TimeoutException.class, () -> task.run(runContext));
+            assertThat(exception.getMessage(), containsString("partial summary in kestra://"));
+
+            URI uri = URI.create(exception.getMessage().substring(exception.getMessage().indexOf("kestra://")));
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(uri)))) {
+                List<Object> rows = FileSerde.readAll(reader).collectList().block();
+
+                assertThat(rows, hasSize(2));
+                assertThat(rows, hasItem(allOf(hasEntry("name", (Object) "fast"), hasEntry("status", (Object) "succeeded"))));
+                assertThat(rows, hasItem(allOf(hasEntry("name", (Object) "slow"), hasEntry("status", (Object) "running"))));
+            }
+        }
+    }
+
+    @Test
+    void invalidGraph() {
+        IllegalArgumentException cycle = assertThrows(IllegalArgumentException.class, () -> DagSync.items(List.of(
+            DagSync.Node.builder().connectionId("a").dependsOn(List.of("c")).build(),
+            DagSync.Node.builder().connectionId("b").dependsOn(List.of("a")).build(),
+            DagSync.Node.builder().connectionId("c").dependsOn(List.of("b")).build(),
+            DagSync.Node.builder().connectionId("d").build()
+        )));
+        assertThat(cycle.getMessage(), is("Dependency cycle between nodes [a, b, c]"));
+
+        IllegalArgumentException unknown = assertThrows(IllegalArgumentException.class, () -> DagSync.items(List.of(
+            DagSync.Node.builder().connectionId("a").dependsOn(List.of("missing")).build()
+        )));
+        assertThat(unknown.getMessage(), containsString("unknown node missing"));
+    }
+}
@@ -0,0 +1,93 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class ExportJobHistoryTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void rowPerJobAttemptAndStream() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(100))
+            .jobDurations(Map.of("running", Duration.ofMinutes(1)))
+            .attempts(2)
+            .streams(3)
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            this.sync(simulator, "first");
+            this.sync(simulator, "second");
+            this.sync(simulator, "running");
+            Thread.sleep(300);
+            this.sync(simulator, "first");
+            Thread.sleep(300);
+
+            ExportJobHistory task = ExportJobHistory.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionIds(Property.ofValue(List.of("first", "second", "running")))
+                .pageSize(Property.ofValue(1))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+            ExportJobHistory.Output output = task.run(runContext);
+
+            // the running job is left for a later export
+            assertThat(output.getJobs(), is(3L));
+            assertThat(output.getRows(), is(3L * 2 * 3));
+            assertThat(output.getCursor(), notNullValue());
+            assertThat(simulator.calls("POST /api/v1/jobs/list"), is(2L + 1 + 1));
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri())))) {
+                List<Object> rows = FileSerde.readAll(reader).collectList().block();
+
+                assertThat(rows, hasSize(18));
+                assertThat((Map<?, ?>) rows.getFirst(), hasEntry("connectionId", "first"));
+                assertThat((Map<?, ?>) rows.getFirst(), hasEntry("attemptStatus", "failed"));
+                assertThat((Map<?, ?>) rows.getFirst(), hasEntry("streamName", "stream_0"));
+                assertThat((Map<?, ?>) rows.getFirst(), hasKey("recordsCommitted"));
+            }
+
+            ExportJobHistory incremental = ExportJobHistory.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionIds(Property.ofValue(List.of("first", "second", "running")))
+                .since(Property.ofValue(ZonedDateTime.now().plusDays(1)))
+                .build();
+
+            ExportJobHistory.Output none = incremental.run(TestsUtils.mockRunContext(runContextFactory, incremental, Map.of()));
+            assertThat(none.getJobs(), is(0L));
+            assertThat(none.getRows(), is(0L));
+        }
+    }
+
+    private void sync(AirbyteApiSimulator simulator, String connectionId) throws Exception {
+        Sync sync = Sync.builder()
+            .url(Property.ofValue(simulator.url()))
+            .connectionId(Property.ofValue(connectionId))
+            .wait(Property.ofValue(false))
+            .build();
+
+        sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+    }
+}
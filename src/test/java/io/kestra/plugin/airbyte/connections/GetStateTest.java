@@ -0,0 +1,53 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+import io.kestra.plugin.airbyte.models.ConnectionState;
+import io.kestra.plugin.airbyte.models.ConnectionStateType;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class GetStateTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void streamCursors() throws Exception {
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(AirbyteApiSimulator.Options.builder().streams(3).build())) {
+            GetState task = GetState.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("incremental"))
+                .store(Property.ofValue(true))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+            GetState.Output output = task.run(runContext);
+
+            assertThat(output.getStateType(), is("stream"));
+            assertThat(output.getStreams(), hasSize(3));
+            assertThat(output.getStreams().get(1).getName(), is("stream_1"));
+            assertThat(output.getStreams().get(1).getNamespace(), is("public"));
+            assertThat(output.getStreams().get(1).getCursorField(), contains("id"));
+            assertThat(output.getStreams().get(1).getCursor(), is("100"));
+            assertThat(output.getStreams().get(2).getCursorField(), contains("updated_at"));
+            assertThat(output.getStreams().get(2).getCursor(), is("2024-01-01T00:00:02Z"));
+
+            ConnectionState state = JacksonMapper.ofJson().readValue(runContext.storage().getFile(output.getUri()), ConnectionState.class);
+            assertThat(state.getStateType(), is(ConnectionStateType.STREAM));
+            assertThat(state.getStreamState(), hasSize(3));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.plugin.airbyte.models.Event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+class LogCursorTest {
+    private static final int LINES = 5_000_000;
+    private static final int POLL_GROWTH = 333_333;
+
+    @Test
+    void linesAreDeliveredOnceAndInOrder() {
+        LogCursor cursor = new LogCursor();
+        long[] delivered = new long[3];
+
+        for (int size = 0; size < LINES + POLL_GROWTH; size += POLL_GROWTH) {
+            for (int attempt = 0; attempt < delivered.length; attempt++) {
+                List<String> next = cursor.nextLines(attempt, lines(Math.min(size, LINES)));
+
+                if (!next.isEmpty()) {
+                    assertThat(next.getFirst(), is("line " + delivered[attempt]));
+                    assertThat(next.getLast(), is("line " + (delivered[attempt] + next.size() - 1)));
+                    delivered[attempt] += next.size();
+                }
+            }
+        }
+
+        for (long count : delivered) {
+            assertThat(count, is((long) LINES));
+        }
+        assertThat(cursor.nextLines(0, lines(LINES)), empty());
+    }
+
+    @Test
+    void truncatedLinesAreNotDeliveredTwice() {
+        LogCursor cursor = new LogCursor();
+
+        assertThat(cursor.nextLines(0, lines(1_000)).size(), is(1_000));
+        assertThat(cursor.nextLines(0, lines(10)), empty());
+        assertThat(cursor.nextLines(0, lines(1_001)), is(List.of("line 1000")));
+    }
+
+    @Test
+    void eventsAreDeliveredOnceWhateverTheirOrder() {
+        LogCursor cursor = new LogCursor();
+        long delivered = 0;
+        long lastTimestamp = Long.MIN_VALUE;
+
+        for (int size = POLL_GROWTH; size < LINES; size += POLL_GROWTH) {
+            // newest first and truncated to the last two polls, with two events per timestamp
+            for (Event event : cursor.nextEvents(7, reversedEvents(Math.max(0, size - 2 * POLL_GROWTH), size))) {
+                assertThat(event.getTimestamp() >= lastTimestamp, is(true));
+                lastTimestamp = event.getTimestamp();
+                delivered++;
+            }
+        }
+
+        int total = (LINES - 1) / POLL_GROWTH * POLL_GROWTH;
+        assertThat(delivered, is((long) total));
+    }
+
+    private static List<String> lines(int size) {
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return "line " + index;
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static List<Event> reversedEvents(int from, int to) {
+        return new AbstractList<>() {
+            @Override
+            public Event get(int index) {
+                int position = to - 1 - index;
+                return Event.builder()
+                    .timestamp((long) position / 2)
+                    .message("event " + position)
+                    .build();
+            }
+
+            @Override
+            public int size() {
+                return to - from;
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class LogForwarderTest {
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        logger = context.getLogger("airbyte");
+        logger.setLevel(ch.qos.logback.classic.Level.TRACE);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @Test
+    void level() {
+        assertThat(LogForwarder.level("2024-01-01 10:00:00 \u001b[1;31mERROR\u001b[m i.a.w.g.DefaultReplicationWorker(run):1 - failed"), is(Level.ERROR));
+        assertThat(LogForwarder.level("2024-01-01 10:00:00 \u001b[33mWARN\u001b[m i.a.w.RecordSchemaValidator - slow"), is(Level.WARN));
+        assertThat(LogForwarder.level("2024-01-01 10:00:00 \u001b[32mDEBUG\u001b[m source > ERROR in payload"), is(Level.DEBUG));
+        assertThat(LogForwarder.level("2024-01-01 10:00:00 \u001b[32mTRACE\u001b[m source > reading"), is(Level.TRACE));
+        assertThat(LogForwarder.level("plain line without level"), is(Level.INFO));
+    }
+
+    @Test
+    void plainLevel() {
+        assertThat(LogForwarder.level("2024-01-01 10:00:00 ERROR[main] i.a.w.g.DefaultReplicationWorker(run):1 - failed"), is(Level.ERROR));
+        assertThat(LogForwarder.level("2024-01-01 10:00:00 WARN[main] i.a.w.RecordSchemaValidator - slow"), is(Level.WARN));
+        assertThat(LogForwarder.level("2024-01-01 10:00:00 DEBUG[main] source > ERROR in payload"), is(Level.DEBUG));
+        assertThat(LogForwarder.level("2024-01-01 10:00:00 TRACE[main] source > reading"), is(Level.TRACE));
+        assertThat(LogForwarder.level("2024-01-01 10:00:00 INFO[main] source > ERROR[stream] in payload"), is(Level.INFO));
+    }
+
+    @Test
+    void minLevel() {
+        LogForwarder forwarder = new LogForwarder(logger, Level.WARN, null);
+
+        forwarder.forward("\u001b[32mINFO\u001b[m skipped");
+        forwarder.forward("\u001b[32mDEBUG\u001b[m skipped");
+        forwarder.forward("\u001b[1;31mERROR\u001b[m kept");
+        forwarder.flush();
+
+        assertThat(appender.list, hasSize(1));
+        assertThat(appender.list.getFirst().getLevel(), is(ch.qos.logback.classic.Level.ERROR));
+    }
+
+    @Test
+    void suppressOverBudget() {
+        LogForwarder forwarder = new LogForwarder(logger, null, 10);
+
+        for (int i = 0; i < 1_000; i++) {
+            forwarder.forward("source > read record " + i + " of stream users");
+        }
+        forwarder.forward("\u001b[1;31mERROR\u001b[m connection reset");
+        forwarder.flush();
+
+        List<String> messages = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+
+        assertThat(messages, hasSize(12));
+        assertThat(messages, hasItem(startsWith("990 similar lines suppressed")));
+        assertThat(messages, hasItem("\u001b[1;31mERROR\u001b[m connection reset"));
+        assertThat(messages, not(hasItem(startsWith("1 similar lines suppressed"))));
+    }
+}
@@ -0,0 +1,105 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+import io.kestra.plugin.airbyte.models.Job;
+import io.kestra.plugin.airbyte.models.JobStatus;
+import io.kestra.plugin.airbyte.models.JobWithAttempts;
+
+import jakarta.inject.Inject;
+import reactor.core.publisher.Flux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class RealtimeTriggerTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void stateChanges() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(1500))
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            RealtimeTrigger trigger = RealtimeTrigger.builder()
+                .id(IdUtils.create())
+                .type(RealtimeTrigger.class.getName())
+                .url(Property.ofValue(simulator.url()))
+                .workspaceIds(Property.ofValue(List.of("workspace")))
+                .pollInterval(Property.ofValue(Duration.ofMillis(100)))
+                .build();
+
+            Sync sync = Sync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("orders"))
+                .wait(Property.ofValue(false))
+                .build();
+            sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+
+            var context = TestsUtils.mockTrigger(runContextFactory, trigger);
+            List<Execution> executions = Flux.from(trigger.evaluate(context.getKey(), context.getValue()))
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+            assertThat(executions, hasSize(2));
+
+            Map<String, Object> running = executions.getFirst().getTrigger().getVariables();
+            assertThat(running.get("previousStatus"), nullValue());
+            assertThat(((Map<String, Object>) running.get("job")).get("status"), is("running"));
+
+            Map<String, Object> succeeded = executions.get(1).getTrigger().getVariables();
+            assertThat(succeeded.get("previousStatus"), is("running"));
+            assertThat(((Map<String, Object>) succeeded.get("job")).get("status"), is("succeeded"));
+            assertThat(((Map<String, Object>) succeeded.get("job")).get("connectionId"), is("orders"));
+
+            // a single query per poll, however many jobs are watched
+            assertThat(simulator.calls("POST /api/v1/jobs/list"), is(0L));
+            assertThat(simulator.calls("POST /api/v1/jobs/list_for_workspaces"), greaterThan(1L));
+        }
+    }
+
+    @Test
+    void changesAreReportedOnce() {
+        RealtimeTrigger.Watch watch = new RealtimeTrigger.Watch(Instant.parse("2024-01-01T00:00:00Z"));
+
+        List<RealtimeTrigger.Output> first = watch.changes(List.of(job(1, "2024-01-01T00:00:01Z", "running"), job(2, "2024-01-01T00:00:01Z", "pending")));
+        assertThat(first, hasSize(2));
+
+        // same states listed again, then one change
+        assertThat(watch.changes(List.of(job(1, "2024-01-01T00:00:01Z", "running"), job(2, "2024-01-01T00:00:01Z", "pending"))), empty());
+        List<RealtimeTrigger.Output> second = watch.changes(List.of(job(2, "2024-01-01T00:00:03Z", "failed")));
+        assertThat(second, hasSize(1));
+        assertThat(second.getFirst().getPreviousStatus(), is("pending"));
+        assertThat(watch.watermark(), is(Instant.parse("2024-01-01T00:00:03Z")));
+    }
+
+    private static JobWithAttempts job(long id, String updatedAt, String status) {
+        return JobWithAttempts.builder()
+            .job(Job.builder()
+                .id(id)
+                .configId("connection-" + id)
+                .status(JobStatus.fromValue(status))
+                .updatedAt(Instant.parse(updatedAt))
+                .build()
+            )
+            .attempts(List.of())
+            .build();
+    }
+}
@@ -0,0 +1,55 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+import io.kestra.plugin.airbyte.models.StreamDescriptor;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class ResetTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void clearSelectedStreams() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofSeconds(1))
+            .streams(500)
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            Reset reset = Reset.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("backfill"))
+                .mode(Property.ofValue(ResetMode.CLEAR))
+                .streams(Property.ofValue(List.of(
+                    StreamDescriptor.builder().name("orders").namespace("public").build()
+                )))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(100)))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, reset, Map.of());
+            Reset.Output output = reset.run(runContext);
+
+            assertThat(output.getAlreadyRunning(), is(false));
+            assertThat(output.getStreams(), hasSize(1));
+            assertThat(output.getStreams().getFirst().getName(), is("orders"));
+            assertThat(simulator.calls("POST /api/v1/connections/clear/stream"), is(1L));
+            assertThat(simulator.calls("POST /api/v1/connections/reset/stream"), is(0L));
+        }
+    }
+}
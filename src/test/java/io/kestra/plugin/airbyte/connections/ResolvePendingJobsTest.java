@@ -0,0 +1,113 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class ResolvePendingJobsTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void resolvedFromNotification() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(300))
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            String connectionId = IdUtils.create();
+            Sync sync = Sync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue(connectionId))
+                .completion(Property.ofValue(CompletionMode.NOTIFICATION))
+                .build();
+
+            RunContext syncContext = TestsUtils.mockRunContext(runContextFactory, sync, Map.of());
+            Sync.Output output = sync.run(syncContext);
+
+            // released right after the job creation
+            assertThat(simulator.calls("POST /api/v1/jobs/get"), is(0L));
+            assertThat(PendingJobs.get(syncContext, connectionId, output.getJobId()).isPresent(), is(true));
+
+            // an early notification is checked against Airbyte and ignored
+            ResolvePendingJobs.Output early = resolve(simulator.notification(output.getJobId()));
+            assertThat(early.getJobs(), empty());
+
+            Thread.sleep(400);
+
+            ResolvePendingJobs.Output resolved = resolve(simulator.notification(output.getJobId()));
+            assertThat(resolved.getJobs(), hasSize(1));
+            assertThat(resolved.getJobs().getFirst().getStatus(), is("succeeded"));
+            assertThat(resolved.getJobs().getFirst().getConnectionId(), is(connectionId));
+            assertThat(resolved.getExecutionIds(), hasSize(1));
+            assertThat(resolved.getExecutionIds().getFirst(), is(((Map<?, ?>) syncContext.getVariables().get("execution")).get("id")));
+
+            // a replayed notification resolves nothing
+            assertThat(resolve(simulator.notification(output.getJobId())).getJobs(), empty());
+            assertThat(resolve(Map.of("text", "Hello World! This is a test from Airbyte")).getJobs(), empty());
+
+            // the sweep returns it again, in case the execution was not paused yet on the first resume
+            ResolvePendingJobs.Resolved retried = resolve(null).getJobs().stream()
+                .filter(job -> job.getConnectionId().equals(connectionId))
+                .findFirst()
+                .orElseThrow();
+            assertThat(retried.getStatus(), is("succeeded"));
+            assertThat(retried.getExecutionId(), is(resolved.getExecutionIds().getFirst()));
+            assertThat(simulator.calls("POST /api/v1/jobs/get_without_logs"), is(2L));
+        }
+    }
+
+    @Test
+    void sweepResolvesLostNotifications() throws Exception {
+        String fast = IdUtils.create();
+        String slow = IdUtils.create();
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDurations(Map.of(fast, Duration.ofMillis(100), slow, Duration.ofSeconds(30)))
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            for (String connectionId : List.of(fast, slow)) {
+                Sync sync = Sync.builder()
+                    .url(Property.ofValue(simulator.url()))
+                    .connectionId(Property.ofValue(connectionId))
+                    .completion(Property.ofValue(CompletionMode.NOTIFICATION))
+                    .build();
+                sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+            }
+
+            Thread.sleep(200);
+
+            ResolvePendingJobs.Output swept = resolve(null);
+            List<String> connections = swept.getJobs().stream().map(ResolvePendingJobs.Resolved::getConnectionId).toList();
+            assertThat(connections, hasItem(fast));
+            assertThat(connections, not(hasItem(slow)));
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, Sync.builder().build(), Map.of());
+            assertThat(PendingJobs.list(runContext).stream().map(PendingJobs.PendingJob::getConnectionId).toList(), hasItem(slow));
+        }
+    }
+
+    private ResolvePendingJobs.Output resolve(Map<String, Object> payload) throws Exception {
+        ResolvePendingJobs task = ResolvePendingJobs.builder()
+            .payload(payload == null ? null : Property.ofValue(payload))
+            .build();
+
+        return task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+    }
+}
@@ -0,0 +1,144 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Drives many concurrent {@link Sync} and {@link CheckStatus} waits against {@link AirbyteApiSimulator}.
+ * <p>
+ * The simulator injects conflicts and failures at random, so the test only runs when asked for, e.g. with
+ * {@code ./gradlew test -Dairbyte.loadTest.jobs=5000} before an upgrade.
+ */
+@KestraTest
+@EnabledIfSystemProperty(named = "airbyte.loadTest.jobs", matches = "\\d+")
+class SyncLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(SyncLoadTest.class);
+    private static final int JOBS = Integer.getInteger("airbyte.loadTest.jobs", 40);
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void concurrentWaits() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofSeconds(3))
+            .logLinesPerPoll(20)
+            .conflictRate(0.01)
+            .rateLimitRate(0.01)
+            .serverErrorRate(0.01)
+            .latency(Duration.ofMillis(5))
+            .build();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        AtomicLong peakHeap = new AtomicLong();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger alreadyRunning = new AtomicInteger();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        long started = System.nanoTime();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            threads.resetPeakThreadCount();
+            sampler.scheduleAtFixedRate(
+                () -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 100, TimeUnit.MILLISECONDS
+            );
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < JOBS; i++) {
+                String connectionId = "connection-" + i;
+                boolean viaCheckStatus = i % 2 == 1;
+
+                futures.add(executor.submit(() -> {
+                    Sync.Output output = Sync.builder()
+                        .url(Property.ofValue(simulator.url()))
+                        .connectionId(Property.ofValue(connectionId))
+                        .failOnActiveSync(Property.ofValue(false))
+                        .wait(Property.ofValue(!viaCheckStatus))
+                        .build()
+                        .run(runContextFactory.of(Map.of()));
+
+                    if (output.getAlreadyRunning()) {
+                        alreadyRunning.incrementAndGet();
+                        return null;
+                    }
+
+                    if (viaCheckStatus) {
+                        CheckStatus.builder()
+                            .url(Property.ofValue(simulator.url()))
+                            .jobId(Property.ofValue(output.getJobId().toString()))
+                            .build()
+                            .run(runContextFactory.of(Map.of()));
+                    }
+
+                    succeeded.incrementAndGet();
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            sampler.shutdownNow();
+
+            List<Duration> lags = simulator.detectionLags().stream().sorted().toList();
+            long totalMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+            log.info(String.format(
+                "Load test: %d tasks in %d ms, %d jobs, %d already running%n" +
+                    "  API calls: %d total, %.1f per job, %d injected failures, %s%n" +
+                    "  peak platform threads: %d, peak heap: %d MiB%n" +
+                    "  detection lag: p50 %d ms, p99 %d ms, max %d ms",
+                JOBS, totalMillis, simulator.jobCount(), alreadyRunning.get(),
+                simulator.calls(), (double) simulator.calls() / Math.max(1, simulator.jobCount()), simulator.injectedFailures(), simulator.callsByEndpoint(),
+                threads.getPeakThreadCount(), peakHeap.get() / (1024 * 1024),
+                percentile(lags, 0.5).toMillis(), percentile(lags, 0.99).toMillis(), percentile(lags, 1).toMillis()
+            ));
+
+            assertThat(succeeded.get() + alreadyRunning.get(), is(JOBS));
+            assertThat(lags.size(), greaterThanOrEqualTo(succeeded.get()));
+        } finally {
+            sampler.shutdownNow();
+        }
+    }
+
+    private static Duration percentile(List<Duration> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return Duration.ZERO;
+        }
+
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index)));
+    }
+}
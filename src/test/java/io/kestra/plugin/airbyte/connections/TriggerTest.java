@@ -0,0 +1,87 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class TriggerTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void endedJobs() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(100))
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            Trigger trigger = Trigger.builder()
+                .id(IdUtils.create())
+                .type(Trigger.class.getName())
+                .url(Property.ofValue(simulator.url()))
+                .connectionIds(Property.ofValue(List.of("orders", "customers")))
+                .build();
+
+            var context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+            // the first evaluation only starts the cursor
+            assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+
+            for (String connectionId : List.of("orders", "customers", "invoices")) {
+                Sync sync = Sync.builder()
+                    .url(Property.ofValue(simulator.url()))
+                    .connectionId(Property.ofValue(connectionId))
+                    .wait(Property.ofValue(false))
+                    .build();
+                sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+            }
+
+            Thread.sleep(300);
+
+            Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+            assertThat(execution.isPresent(), is(true));
+
+            Map<String, Object> variables = execution.get().getTrigger().getVariables();
+            assertThat(variables.get("size"), is(2));
+
+            List<Map<String, Object>> jobs = (List<Map<String, Object>>) variables.get("jobs");
+            assertThat(jobs.stream().map(job -> job.get("connectionId")).toList(), containsInAnyOrder("orders", "customers"));
+            assertThat(jobs.getFirst().get("status"), is("succeeded"));
+            assertThat((List<?>) jobs.getFirst().get("streams"), hasSize(options.getStreams()));
+
+            // one query per connection, and nothing new on the next evaluation
+            assertThat(simulator.calls("POST /api/v1/jobs/list"), is(2L));
+            assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+
+            Sync sync = Sync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .connectionId(Property.ofValue("orders"))
+                .wait(Property.ofValue(false))
+                .build();
+            sync.run(TestsUtils.mockRunContext(runContextFactory, sync, Map.of()));
+            Thread.sleep(300);
+
+            execution = trigger.evaluate(context.getKey(), context.getValue());
+            assertThat(execution.isPresent(), is(true));
+            assertThat(execution.get().getTrigger().getVariables().get("size"), is(1));
+        }
+    }
+}
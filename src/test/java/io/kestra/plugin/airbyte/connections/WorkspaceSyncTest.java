@@ -0,0 +1,136 @@
+package io.kestra.plugin.airbyte.connections;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.airbyte.AirbyteApiSimulator;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class WorkspaceSyncTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void filteredFanOut() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(500))
+            .connections(20)
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            WorkspaceSync task = WorkspaceSync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .workspaceId(Property.ofValue("fan-out"))
+                .tags(Property.ofValue(List.of("nightly")))
+                .sourceTypes(Property.ofValue(List.of("postgres")))
+                .parallelism(Property.ofValue(2))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(100)))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+            WorkspaceSync.Output output = task.run(runContext);
+
+            // even connections reading from the Postgres source: 0, 6, 12, 18
+            assertThat(output.getConnections(), is(4));
+            assertThat(output.getSucceeded(), is(4));
+            assertThat(output.getFailed(), is(0));
+            assertThat(simulator.jobCount(), is(4));
+            assertThat(simulator.calls("POST /api/v1/jobs/get"), is(0L));
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri())))) {
+                List<Object> rows = FileSerde.readAll(reader).collectList().block();
+
+                assertThat(rows, hasSize(4));
+                assertThat((Map<?, ?>) rows.getFirst(), hasEntry("status", "succeeded"));
+                assertThat((Map<?, ?>) rows.getFirst(), hasKey("recordsCommitted"));
+            }
+        }
+    }
+
+    @Test
+    void longestFirst() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(200))
+            .jobDurations(Map.of("connection-3", Duration.ofSeconds(1)))
+            .connections(4)
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            WorkspaceSync task = WorkspaceSync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .workspaceId(Property.ofValue("makespan"))
+                .order(Property.ofValue(BatchOrder.LONGEST_FIRST))
+                .priorities(Property.ofValue(Map.of("connection-1", 5)))
+                .parallelism(Property.ofValue(2))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(50)))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+            KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+            for (int i = 0; i < 4; i++) {
+                kvStore.put("airbyte.sync-durations.connection-" + i, new KVValueAndMetadata(new KVMetadata("durations", Duration.ofMinutes(5)), List.of(i == 3 ? 1_000L : 200L)));
+            }
+
+            WorkspaceSync.Output output = task.run(runContext);
+
+            // the priority first, then the longest connection, instead of waiting for the third slot
+            assertThat(simulator.jobConnections().subList(0, 2), contains("connection-1", "connection-3"));
+            assertThat(output.getPredictedMakespan(), is(Duration.ofSeconds(1)));
+            assertThat(output.getActualMakespan(), lessThan(Duration.ofMillis(1_800)));
+            assertThat(BatchScheduler.expected(kvStore, "connection-3").isPresent(), is(true));
+        }
+    }
+
+    @Test
+    void partialSummaryOnTimeout() throws Exception {
+        AirbyteApiSimulator.Options options = AirbyteApiSimulator.Options.builder()
+            .jobDuration(Duration.ofMillis(100))
+            .jobDurations(Map.of("connection-1", Duration.ofSeconds(30)))
+            .connections(2)
+            .build();
+
+        try (AirbyteApiSimulator simulator = AirbyteApiSimulator.start(options)) {
+            WorkspaceSync task = WorkspaceSync.builder()
+                .url(Property.ofValue(simulator.url()))
+                .workspaceId(Property.ofValue("timeout"))
+                .pollFrequency(Property.ofValue(Duration.ofMillis(50)))
+                .maxDuration(Property.ofValue(Duration.ofMillis(500)))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+            TimeoutException exception = assertThrows(TimeoutException.class, () -> task.run(runContext));
+            assertThat(exception.getMessage(), containsString("partial summary in kestra://"));
+
+            URI uri = URI.create(exception.getMessage().substring(exception.getMessage().indexOf("kestra://")));
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(uri)))) {
+                List<Object> rows = FileSerde.readAll(reader).collectList().block();
+
+                assertThat(rows, hasSize(2));
+                assertThat(rows, hasItem(allOf(hasEntry("name", (Object) "connection-0"), hasEntry("status", (Object) "succeeded"))));
+                assertThat(rows, hasItem(allOf(hasEntry("name", (Object) "connection-1"), hasEntry("status", (Object) "running"))));
+            }
+        }
+    }
+}